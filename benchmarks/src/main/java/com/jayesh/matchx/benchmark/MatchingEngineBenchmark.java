@@ -0,0 +1,147 @@
+package com.jayesh.matchx.benchmark;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.model.OrderReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link MatchingEngine#submitOrder} throughput through the shard rings, spread
+ * round-robin over {@code symbols} symbols. Each producer thread replays a realistic flow where a
+ * third of the orders are marketable and the rest rest near the touch; once an order has rested
+ * for {@value #RESTING_WINDOW} of that thread's orders it is cancelled, so book depth stays
+ * bounded and cancels make up a realistic share of the traffic.
+ *
+ * <p>{@link #submitAndWait} waits for every order before sending the next one;
+ * {@link #submitPipelined} keeps up to {@value #PIPELINE_DEPTH} orders in flight per thread.
+ * Run with {@code -t} to add producer threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchingEngineBenchmark {
+    private static final long MID = 100_000;
+    private static final int RESTING_WINDOW = 4096;
+    private static final int PIPELINE_DEPTH = 256;
+
+    @Param({"1", "16", "256"})
+    int symbols;
+
+    @Param({"4"})
+    int shards;
+
+    @Param({"false", "true"})
+    boolean pooling;
+
+    private MatchingEngine engine;
+    private String[] symbolNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EngineProperties properties = new EngineProperties();
+        properties.setShards(shards);
+        properties.setPooling(pooling);
+        engine = new MatchingEngine(properties, trades -> {
+        }, 50);
+        symbolNames = new String[symbols];
+        for (int i = 0; i < symbols; i++) {
+            symbolNames[i] = "SYM" + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private static int seeds;
+
+        private OrderFlow flow;
+        private int symbolIndex;
+        private final long[] restingIds = new long[RESTING_WINDOW];
+        private final int[] restingSymbols = new int[RESTING_WINDOW];
+        private int restingIndex;
+        @SuppressWarnings("unchecked")
+        private final CompletableFuture<OrderReport>[] inFlight = new CompletableFuture[PIPELINE_DEPTH];
+        private final int[] inFlightSymbols = new int[PIPELINE_DEPTH];
+        private long submitted;
+        private long completed;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            int seed;
+            synchronized (Producer.class) {
+                seed = seeds++;
+            }
+            flow = new OrderFlow(seed, 1 << 16, MID, 0.33, 4, 10);
+        }
+
+        @TearDown(Level.Iteration)
+        public void drain() {
+            while (completed < submitted) {
+                int slot = (int) (completed++ & (PIPELINE_DEPTH - 1));
+                inFlight[slot].join();
+                inFlight[slot] = null;
+            }
+        }
+    }
+
+    @Benchmark
+    public OrderReport submitAndWait(Producer producer) {
+        int symbol = nextSymbol(producer);
+        OrderReport report = submit(producer, symbol).join();
+        onCompleted(producer, symbol, report).join();
+        return report;
+    }
+
+    @Benchmark
+    public void submitPipelined(Producer producer) {
+        if (producer.submitted - producer.completed == PIPELINE_DEPTH) {
+            int oldest = (int) (producer.completed++ & (PIPELINE_DEPTH - 1));
+            OrderReport report = producer.inFlight[oldest].join();
+            onCompleted(producer, producer.inFlightSymbols[oldest], report);
+        }
+        int symbol = nextSymbol(producer);
+        int slot = (int) (producer.submitted++ & (PIPELINE_DEPTH - 1));
+        producer.inFlight[slot] = submit(producer, symbol);
+        producer.inFlightSymbols[slot] = symbol;
+    }
+
+    private int nextSymbol(Producer producer) {
+        int symbol = producer.symbolIndex;
+        producer.symbolIndex = symbol + 1 == symbols ? 0 : symbol + 1;
+        return symbol;
+    }
+
+    private CompletableFuture<OrderReport> submit(Producer producer, int symbol) {
+        OrderFlow flow = producer.flow;
+        flow.next();
+        return engine.submitOrder(symbolNames[symbol], flow.side(), flow.price(), flow.quantity());
+    }
+
+    /**
+     * Remembers a resting order and cancels the one that rested {@value #RESTING_WINDOW} orders ago.
+     */
+    private CompletableFuture<Boolean> onCompleted(Producer producer, int symbol, OrderReport report) {
+        if (report.remainingQuantity() == 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+        int slot = producer.restingIndex++ & (RESTING_WINDOW - 1);
+        long previous = producer.restingIds[slot];
+        String previousSymbol = symbolNames[producer.restingSymbols[slot]];
+        producer.restingIds[slot] = report.id();
+        producer.restingSymbols[slot] = symbol;
+        if (previous == 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return engine.cancelOrder(previous, previousSymbol);
+    }
+}
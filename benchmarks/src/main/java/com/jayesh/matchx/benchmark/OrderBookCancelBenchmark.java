@@ -0,0 +1,77 @@
+package com.jayesh.matchx.benchmark;
+
+import com.jayesh.matchx.engine.IdGenerator;
+import com.jayesh.matchx.engine.MatchContext;
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.OrderSide;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderBook#cancelOrder(long, MatchContext)} of an order resting {@code levelDepth} levels
+ * behind the best bid. The book holds {@code levelDepth + 10} bid levels, so deep cases also
+ * exercise levels outside the ladder's array window. Each operation cancels the oldest order at
+ * the target level and re-adds one in its place; with one order per level the cancel empties
+ * the level and the add recreates it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderBookCancelBenchmark {
+    private static final String SYMBOL = "BENCH";
+    private static final long MID = 100_000;
+    private static final long LOT = 10;
+
+    @Param({"0", "100", "1000", "3000"})
+    int levelDepth;
+
+    @Param({"1", "10"})
+    int ordersPerLevel;
+
+    private IdGenerator ids;
+    private MatchContext context;
+    private OrderBook book;
+    private long targetPrice;
+    private long[] targetIds;
+    private int head;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ids = new IdGenerator(0);
+        context = new MatchContext(ids);
+        book = new OrderBook(SYMBOL);
+        targetPrice = MID - 1 - levelDepth;
+        targetIds = new long[ordersPerLevel];
+        head = 0;
+        for (int level = 0; level < levelDepth + 10; level++) {
+            for (int i = 0; i < ordersPerLevel; i++) {
+                long id = rest(OrderSide.BUY, MID - 1 - level);
+                if (MID - 1 - level == targetPrice) {
+                    targetIds[i] = id;
+                }
+            }
+            rest(OrderSide.SELL, MID + 1 + level);
+        }
+    }
+
+    @Benchmark
+    public boolean cancelOrder() {
+        boolean cancelled = book.cancelOrder(targetIds[head], context);
+        context.recycle();
+        targetIds[head] = rest(OrderSide.BUY, targetPrice);
+        head = (head + 1) % ordersPerLevel;
+        return cancelled;
+    }
+
+    private long rest(OrderSide side, long price) {
+        long id = ids.nextId();
+        book.match(new Order().init(id, SYMBOL, side, price, LOT, 0), context);
+        context.recycle();
+        return id;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jayesh.matchx.benchmark;
+
+import com.jayesh.matchx.engine.IdGenerator;
+import com.jayesh.matchx.engine.MatchContext;
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.OrderSide;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderBook#match(Order, MatchContext)} on a book with {@code levels} price levels per
+ * side around a fixed mid, each holding {@code ordersPerLevel} orders of one lot size.
+ *
+ * <p>Every operation leaves the book as it found it, so the state is steady however long JMH
+ * runs: {@link #passiveAdd()} cancels the oldest of its own resting orders once a window of them
+ * is outstanding, and the fill benchmarks re-add the quantity they consumed as passive orders.
+ * Scores therefore include that upkeep; compare against {@link #passiveAdd()} to separate it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderBookMatchBenchmark {
+    private static final String SYMBOL = "BENCH";
+    private static final long MID = 100_000;
+    private static final long LOT = 10;
+    private static final int PASSIVE_WINDOW = 1024;
+
+    @Param({"10", "100", "1000"})
+    int levels;
+
+    @Param({"10"})
+    int ordersPerLevel;
+
+    @Param({"5"})
+    int sweepLevels;
+
+    private IdGenerator ids;
+    private MatchContext context;
+    private OrderBook book;
+    private OrderFlow passiveFlow;
+    private final long[] passiveWindow = new long[PASSIVE_WINDOW];
+    private int passiveIndex;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ids = new IdGenerator(0);
+        context = new MatchContext(ids);
+        book = new OrderBook(SYMBOL);
+        for (int level = 0; level < levels; level++) {
+            for (int i = 0; i < ordersPerLevel; i++) {
+                submit(OrderSide.BUY, MID - 1 - level, LOT);
+                submit(OrderSide.SELL, MID + 1 + level, LOT);
+            }
+        }
+        passiveFlow = new OrderFlow(42, 1 << 16, MID, 0, Math.max(1, levels / 4.0), LOT);
+        Arrays.fill(passiveWindow, 0);
+        passiveIndex = 0;
+    }
+
+    /**
+     * Rests one order drawn from the passive flow, cancelling the order rested
+     * {@value #PASSIVE_WINDOW} operations earlier.
+     */
+    @Benchmark
+    public long passiveAdd() {
+        passiveFlow.next();
+        long id = ids.nextId();
+        match(new Order().init(id, SYMBOL, passiveFlow.side(), passiveFlow.price(), passiveFlow.quantity(), 0));
+        int slot = passiveIndex++ & (PASSIVE_WINDOW - 1);
+        book.cancelOrder(passiveWindow[slot], context);
+        context.recycle();
+        passiveWindow[slot] = id;
+        return id;
+    }
+
+    /**
+     * Takes the order at the front of the best ask, then re-adds it at the back of that level.
+     */
+    @Benchmark
+    public int singleLevelFill() {
+        int fills = submit(OrderSide.BUY, MID + 1, LOT);
+        submit(OrderSide.SELL, MID + 1, LOT);
+        return fills;
+    }
+
+    /**
+     * Takes the {@code sweepLevels} best ask levels in one order, then rebuilds them.
+     */
+    @Benchmark
+    public int multiLevelSweep() {
+        int fills = submit(OrderSide.BUY, MID + sweepLevels, LOT * ordersPerLevel * sweepLevels);
+        for (int level = 1; level <= sweepLevels; level++) {
+            for (int i = 0; i < ordersPerLevel; i++) {
+                submit(OrderSide.SELL, MID + level, LOT);
+            }
+        }
+        return fills;
+    }
+
+    private int submit(OrderSide side, long price, long quantity) {
+        return match(new Order().init(ids.nextId(), SYMBOL, side, price, quantity, 0));
+    }
+
+    private int match(Order order) {
+        book.match(order, context);
+        int fills = context.getFills().size();
+        context.recycle();
+        return fills;
+    }
+}
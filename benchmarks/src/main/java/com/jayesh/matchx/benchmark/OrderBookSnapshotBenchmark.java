@@ -0,0 +1,70 @@
+package com.jayesh.matchx.benchmark;
+
+import com.jayesh.matchx.engine.IdGenerator;
+import com.jayesh.matchx.engine.MatchContext;
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.OrderSide;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the top {@code depth} levels of a book holding {@code levels} levels per side with four
+ * orders each through {@link OrderBook#getSnapshot(int)}, and the writer's cost of republishing
+ * the view it is served from. Depths beyond the default view depth take the locked path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderBookSnapshotBenchmark {
+    private static final String SYMBOL = "BENCH";
+    private static final long MID = 100_000;
+    private static final int ORDERS_PER_LEVEL = 4;
+
+    @Param({"1000", "10000"})
+    int levels;
+
+    @Param({"10", "50", "1000"})
+    int depth;
+
+    private OrderBook book;
+    private IdGenerator ids;
+    private MatchContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = new IdGenerator(0);
+        context = new MatchContext(ids);
+        book = new OrderBook(SYMBOL);
+        for (int level = 0; level < levels; level++) {
+            for (int i = 0; i < ORDERS_PER_LEVEL; i++) {
+                book.match(new Order().init(ids.nextId(), SYMBOL, OrderSide.BUY, MID - 1 - level, 10, 0), context);
+                book.match(new Order().init(ids.nextId(), SYMBOL, OrderSide.SELL, MID + 1 + level, 10, 0), context);
+                context.recycle();
+            }
+        }
+        context.publishBookViews();
+    }
+
+    @Benchmark
+    public OrderBook.OrderBookSnapshot getSnapshot() {
+        return book.getSnapshot(depth);
+    }
+
+    /**
+     * Adds and cancels a top-of-book order, then republishes the view.
+     */
+    @Benchmark
+    public OrderBook.OrderBookSnapshot publishView() {
+        long orderId = ids.nextId();
+        book.match(new Order().init(orderId, SYMBOL, OrderSide.BUY, MID - 1, 10, 0), context);
+        book.cancelOrder(orderId, context);
+        context.publishBookViews();
+        context.recycle();
+        return book.getSnapshot(depth);
+    }
+}
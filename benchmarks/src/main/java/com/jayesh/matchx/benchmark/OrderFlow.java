@@ -0,0 +1,67 @@
+package com.jayesh.matchx.benchmark;
+
+import com.jayesh.matchx.model.OrderSide;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pre-generated order flow around a fixed mid price, cycled without allocating. Prices sit a
+ * geometrically distributed number of ticks away from the mid, so most orders cluster near the
+ * touch with a long tail deeper in the book; quantities are one lot plus an exponential draw.
+ * A configurable share of orders is priced through the mid and therefore marketable.
+ */
+public final class OrderFlow {
+    private final OrderSide[] sides;
+    private final long[] prices;
+    private final long[] quantities;
+    private final int mask;
+    private int index = -1;
+
+    public OrderFlow(long seed, int size, long midPrice, double marketableRatio,
+                     double meanOffsetTicks, double meanQuantity) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Order flow size must be a power of 2");
+        }
+        this.sides = new OrderSide[size];
+        this.prices = new long[size];
+        this.quantities = new long[size];
+        this.mask = size - 1;
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            OrderSide side = random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL;
+            long offset = 1 + geometric(random, meanOffsetTicks);
+            boolean marketable = random.nextDouble() < marketableRatio;
+            boolean above = (side == OrderSide.BUY) == marketable;
+            sides[i] = side;
+            prices[i] = above ? midPrice + offset : Math.max(1, midPrice - offset);
+            quantities[i] = 1 + (long) (-meanQuantity * Math.log(1 - random.nextDouble()));
+        }
+    }
+
+    /**
+     * Moves to the next order of the flow.
+     */
+    public void next() {
+        index = (index + 1) & mask;
+    }
+
+    public OrderSide side() {
+        return sides[index];
+    }
+
+    public long price() {
+        return prices[index];
+    }
+
+    public long quantity() {
+        return quantities[index];
+    }
+
+    private static long geometric(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1 / (1 + mean);
+        return (long) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+}
@@ -0,0 +1,36 @@
+package com.jayesh.matchx.loadgen;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.model.OrderSide;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Drives an in-process {@link MatchingEngine} with no listeners attached, measuring the engine
+ * alone without HTTP, serialization or Kafka.
+ */
+public final class EngineOrderClient implements OrderClient {
+    private final MatchingEngine engine;
+
+    public EngineOrderClient(EngineProperties properties) {
+        this.engine = new MatchingEngine(properties, trades -> {
+        }, 50);
+    }
+
+    @Override
+    public CompletableFuture<Long> submit(String symbol, OrderSide side, long priceTicks, long quantityLots) {
+        return engine.submitOrder(symbol, side, priceTicks, quantityLots)
+            .thenApply(report -> report.remainingQuantity() > 0 ? report.id() : 0L);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> cancel(String symbol, long orderId) {
+        return engine.cancelOrder(orderId, symbol);
+    }
+
+    @Override
+    public void close() {
+        engine.shutdown();
+    }
+}
@@ -0,0 +1,238 @@
+package com.jayesh.matchx.loadgen;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.model.OrderSide;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the matching engine. Sender threads issue requests on a fixed
+ * schedule regardless of how fast responses come back, and every latency is measured from the
+ * moment the schedule intended the request to be sent. A stall therefore shows up as latency of
+ * every request that should have gone out during it, instead of silently lowering the rate as a
+ * closed-loop client would (coordinated omission). Latency measured from the actual send is
+ * reported alongside for comparison.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.jayesh.matchx.loadgen.LoadGenerator \
+ *     --target engine --profile MIXED --symbols 64 --rate 200000 --duration 60
+ * </pre>
+ *
+ * Against a running service, {@code --symbol-list} names the configured instruments to trade:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.jayesh.matchx.loadgen.LoadGenerator \
+ *     --target rest --symbol-list BTC-USD,ETH-USD,SOL-USD --rate 2000
+ * </pre>
+ *
+ * Runs with the same options and seed replay the same order flow, so results are comparable
+ * across releases.
+ */
+public final class LoadGenerator {
+    private static final long MID_PRICE_TICKS = 1_000_000;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final LoadOptions options;
+    private final OrderClient client;
+    private final String[] symbols;
+    private final Recorder corrected = new Recorder(3);
+    private final Recorder uncorrected = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final Semaphore inFlight;
+
+    public LoadGenerator(LoadOptions options, OrderClient client) {
+        this.options = options;
+        this.client = client;
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.symbols = options.symbolNames();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadOptions.USAGE);
+            System.exit(1);
+            return;
+        }
+        try (OrderClient client = createClient(options)) {
+            new LoadGenerator(options, client).run();
+        }
+    }
+
+    private static OrderClient createClient(LoadOptions options) {
+        if (options.target().equals("rest")) {
+            return new RestOrderClient(options.url(), options.tickSize(), options.lotSize());
+        }
+        EngineProperties properties = new EngineProperties();
+        properties.setShards(options.shards());
+        properties.setPooling(options.pooling());
+        return new EngineOrderClient(properties);
+    }
+
+    public void run() throws InterruptedException, FileNotFoundException {
+        System.out.printf("%s load on %s: %d symbols, %.0f requests/s from %d threads, %d s warmup + %d s%n",
+            options.profile(), options.target().equals("rest") ? options.url() : "in-process engine",
+            symbols.length, options.rate(), options.threads(), options.warmupSeconds(), options.durationSeconds());
+
+        long intervalNanos = (long) (options.threads() * 1_000_000_000L / options.rate());
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureStart = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        Thread[] senders = new Thread[options.threads()];
+        for (int i = 0; i < senders.length; i++) {
+            int worker = i;
+            long workerStart = start + intervalNanos * worker / senders.length;
+            senders[i] = new Thread(() -> send(worker, workerStart, intervalNanos, measureStart, end),
+                "load-sender-" + i);
+            senders[i].start();
+        }
+
+        Histogram totalCorrected = new Histogram(3);
+        Histogram totalUncorrected = new Histogram(3);
+        Histogram interval = null;
+        Histogram uncorrectedInterval = null;
+        System.out.printf("%8s %10s %10s %10s %10s %10s %8s%n",
+            "time(s)", "ops/s", "p50(us)", "p99(us)", "p99.9(us)", "max(us)", "errors");
+        long nextReport = measureStart + TimeUnit.SECONDS.toNanos(1);
+        LockSupport.parkNanos(Math.max(0, measureStart - System.nanoTime()));
+        long lastCompleted = completed.sum();
+        long lastErrors = errors.sum();
+        while (System.nanoTime() < end) {
+            LockSupport.parkNanos(Math.max(0, nextReport - System.nanoTime()));
+            interval = corrected.getIntervalHistogram(interval);
+            uncorrectedInterval = uncorrected.getIntervalHistogram(uncorrectedInterval);
+            totalCorrected.add(interval);
+            totalUncorrected.add(uncorrectedInterval);
+            long done = completed.sum();
+            long failed = errors.sum();
+            System.out.printf("%8d %10d %10.1f %10.1f %10.1f %10.1f %8d%n",
+                TimeUnit.NANOSECONDS.toSeconds(nextReport - measureStart), done - lastCompleted,
+                micros(interval.getValueAtPercentile(50)), micros(interval.getValueAtPercentile(99)),
+                micros(interval.getValueAtPercentile(99.9)), micros(interval.getMaxValue()), failed - lastErrors);
+            lastCompleted = done;
+            lastErrors = failed;
+            nextReport += TimeUnit.SECONDS.toNanos(1);
+        }
+
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), 30, TimeUnit.SECONDS)) {
+            System.out.println("Gave up waiting for outstanding requests");
+        }
+        totalCorrected.add(corrected.getIntervalHistogram());
+        totalUncorrected.add(uncorrected.getIntervalHistogram());
+        report(totalCorrected, totalUncorrected);
+    }
+
+    private void send(int worker, long start, long intervalNanos, long measureStart, long end) {
+        SplittableRandom random = new SplittableRandom(options.seed() * 1_000_003 + worker);
+        Queue<RestingOrder> resting = new ConcurrentLinkedQueue<>();
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                return;
+            }
+            waitUntil(intended);
+            inFlight.acquireUninterruptibly();
+            long sent = System.nanoTime();
+            boolean measured = intended >= measureStart;
+            CompletableFuture<?> request;
+            try {
+                request = nextRequest(random, resting);
+            } catch (RuntimeException e) {
+                request = CompletableFuture.failedFuture(e);
+            }
+            request.whenComplete((result, error) -> {
+                long done = System.nanoTime();
+                inFlight.release();
+                if (error != null) {
+                    errors.increment();
+                } else if (measured) {
+                    corrected.recordValue(done - intended);
+                    uncorrected.recordValue(done - sent);
+                }
+                completed.increment();
+            });
+        }
+    }
+
+    private CompletableFuture<?> nextRequest(SplittableRandom random, Queue<RestingOrder> resting) {
+        LoadProfile profile = options.profile();
+        double action = random.nextDouble();
+        if (action < profile.getCancelRatio()) {
+            RestingOrder order = resting.poll();
+            if (order != null) {
+                return client.cancel(order.symbol(), order.orderId());
+            }
+        }
+        boolean marketable = action >= profile.getCancelRatio()
+            && action < profile.getCancelRatio() + profile.getMarketableRatio();
+        OrderSide side = random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL;
+        long offset = 1 + geometric(random, profile.getMeanOffsetTicks());
+        long price = (side == OrderSide.BUY) == marketable ? MID_PRICE_TICKS + offset : MID_PRICE_TICKS - offset;
+        long quantity = 1 + (long) (-profile.getMeanQuantityLots() * Math.log(1 - random.nextDouble()));
+        String symbol = symbols[random.nextInt(symbols.length)];
+        return client.submit(symbol, side, price, quantity).thenAccept(orderId -> {
+            if (orderId != 0) {
+                resting.add(new RestingOrder(symbol, orderId));
+            }
+        });
+    }
+
+    private void report(Histogram corrected, Histogram uncorrected) throws FileNotFoundException {
+        long requests = corrected.getTotalCount();
+        System.out.printf("%nMeasured %d requests in %d s (%.0f/s), %d errors%n",
+            requests, options.durationSeconds(), (double) requests / options.durationSeconds(), errors.sum());
+        System.out.printf("%-12s %14s %14s%n", "latency(us)", "corrected", "uncorrected");
+        for (double percentile : PERCENTILES) {
+            System.out.printf("%-12s %14.1f %14.1f%n", "p" + percentile,
+                micros(corrected.getValueAtPercentile(percentile)), micros(uncorrected.getValueAtPercentile(percentile)));
+        }
+        System.out.printf("%-12s %14.1f %14.1f%n", "max", micros(corrected.getMaxValue()), micros(uncorrected.getMaxValue()));
+        if (options.histogram() != null) {
+            try (PrintStream out = new PrintStream(options.histogram())) {
+                corrected.outputPercentileDistribution(out, 1000.0);
+            }
+            System.out.println("Wrote corrected distribution in microseconds to " + options.histogram());
+        }
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > 100_000) {
+                LockSupport.parkNanos(remaining - 50_000);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private static long geometric(SplittableRandom random, double mean) {
+        double p = 1 / (1 + mean);
+        return (long) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private record RestingOrder(String symbol, long orderId) {}
+}
@@ -0,0 +1,123 @@
+package com.jayesh.matchx.loadgen;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line of {@link LoadGenerator}: {@code --name value} pairs, all optional.
+ */
+public record LoadOptions(
+    String target,
+    String url,
+    LoadProfile profile,
+    int symbols,
+    List<String> symbolList,
+    double rate,
+    int durationSeconds,
+    int warmupSeconds,
+    int threads,
+    int maxInFlight,
+    long seed,
+    BigDecimal tickSize,
+    BigDecimal lotSize,
+    int shards,
+    boolean pooling,
+    String histogram
+) {
+    static final String USAGE = """
+        usage: LoadGenerator [options]
+          --target engine|rest     in-process MatchingEngine or a running service (default engine)
+          --url URL                service base URL for --target rest (default http://localhost:8081)
+          --profile NAME           MARKET_MAKER, TAKER, CANCEL_STORM or MIXED (default MIXED)
+          --symbols N              symbols LOAD-0..LOAD-<N-1> to spread orders over (default 16)
+          --symbol-list A,B,...    spread orders over these symbols instead; for --target rest they
+                                   must be configured in matchx.instruments.symbols, e.g.
+                                   BTC-USD,ETH-USD,SOL-USD,BNB-USD,MATIC-USD for the stock service
+          --rate N                 intended requests per second across all threads (default 10000)
+          --duration S             measured seconds (default 30)
+          --warmup S               unmeasured seconds before that (default 5)
+          --threads N              sender threads (default 1)
+          --max-in-flight N        outstanding requests before senders stall (default 10000)
+          --seed N                 order flow seed (default 1)
+          --tick-size D            price of one tick for --target rest (default 0.01)
+          --lot-size D             quantity of one lot for --target rest (default 0.001)
+          --shards N               engine shards for --target engine, 0 for one per core (default 0)
+          --pooling true|false     engine object pooling for --target engine (default false)
+          --histogram FILE         also write the corrected percentile distribution (.hgrm)
+        """;
+
+    private static final Set<String> NAMES = Set.of("target", "url", "profile", "symbols", "symbol-list", "rate",
+        "duration", "warmup", "threads", "max-in-flight", "seed", "tick-size", "lot-size", "shards", "pooling",
+        "histogram");
+
+    public static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : null;
+            if (name == null || !NAMES.contains(name) || i + 1 == args.length) {
+                throw new IllegalArgumentException("Unexpected argument " + args[i]);
+            }
+            values.put(name, args[++i]);
+        }
+        LoadOptions options = new LoadOptions(
+            values.getOrDefault("target", "engine"),
+            values.getOrDefault("url", "http://localhost:8081"),
+            LoadProfile.valueOf(values.getOrDefault("profile", "MIXED").toUpperCase()),
+            Integer.parseInt(values.getOrDefault("symbols", "16")),
+            parseList(values.get("symbol-list")),
+            Double.parseDouble(values.getOrDefault("rate", "10000")),
+            Integer.parseInt(values.getOrDefault("duration", "30")),
+            Integer.parseInt(values.getOrDefault("warmup", "5")),
+            Integer.parseInt(values.getOrDefault("threads", "1")),
+            Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+            Long.parseLong(values.getOrDefault("seed", "1")),
+            new BigDecimal(values.getOrDefault("tick-size", "0.01")),
+            new BigDecimal(values.getOrDefault("lot-size", "0.001")),
+            Integer.parseInt(values.getOrDefault("shards", "0")),
+            Boolean.parseBoolean(values.getOrDefault("pooling", "false")),
+            values.get("histogram")
+        );
+        if (!options.target.equals("engine") && !options.target.equals("rest")) {
+            throw new IllegalArgumentException("--target must be engine or rest");
+        }
+        if (options.symbols < 1 || options.rate <= 0 || options.threads < 1 || options.maxInFlight < 1
+                || options.durationSeconds < 1 || options.warmupSeconds < 0) {
+            throw new IllegalArgumentException("--symbols, --rate, --threads, --max-in-flight and --duration "
+                + "must be positive and --warmup must not be negative");
+        }
+        return options;
+    }
+
+    /**
+     * Symbols to spread orders over: the {@code --symbol-list} if one was given, otherwise
+     * LOAD-0..LOAD-&lt;symbols-1&gt;.
+     */
+    public String[] symbolNames() {
+        if (!symbolList.isEmpty()) {
+            return symbolList.toArray(String[]::new);
+        }
+        String[] names = new String[symbols];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "LOAD-" + i;
+        }
+        return names;
+    }
+
+    private static List<String> parseList(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        List<String> names = Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .toList();
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("--symbol-list must name at least one symbol");
+        }
+        return names;
+    }
+}
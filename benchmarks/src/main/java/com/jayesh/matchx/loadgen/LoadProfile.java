@@ -0,0 +1,61 @@
+package com.jayesh.matchx.loadgen;
+
+/**
+ * Shape of the order flow one load generator thread produces. Each action is a passive order,
+ * a marketable order or a cancel of one of the thread's resting orders, drawn with the given
+ * ratios; prices sit a geometrically distributed number of ticks from the mid and quantities are
+ * one lot plus an exponential draw.
+ */
+public enum LoadProfile {
+    /**
+     * Quotes near the touch and requotes constantly, rarely crossing.
+     */
+    MARKET_MAKER(0.55, 0.05, 0.40, 2, 10),
+    /**
+     * Mostly aggressive orders that take liquidity.
+     */
+    TAKER(0.20, 0.75, 0.05, 3, 5),
+    /**
+     * Bursts of cancels against a thin stream of new resting orders.
+     */
+    CANCEL_STORM(0.20, 0.0, 0.80, 5, 10),
+    /**
+     * A blend of the above.
+     */
+    MIXED(0.50, 0.25, 0.25, 4, 10);
+
+    private final double passiveRatio;
+    private final double marketableRatio;
+    private final double cancelRatio;
+    private final double meanOffsetTicks;
+    private final double meanQuantityLots;
+
+    LoadProfile(double passiveRatio, double marketableRatio, double cancelRatio,
+                double meanOffsetTicks, double meanQuantityLots) {
+        this.passiveRatio = passiveRatio;
+        this.marketableRatio = marketableRatio;
+        this.cancelRatio = cancelRatio;
+        this.meanOffsetTicks = meanOffsetTicks;
+        this.meanQuantityLots = meanQuantityLots;
+    }
+
+    public double getPassiveRatio() {
+        return passiveRatio;
+    }
+
+    public double getMarketableRatio() {
+        return marketableRatio;
+    }
+
+    public double getCancelRatio() {
+        return cancelRatio;
+    }
+
+    public double getMeanOffsetTicks() {
+        return meanOffsetTicks;
+    }
+
+    public double getMeanQuantityLots() {
+        return meanQuantityLots;
+    }
+}
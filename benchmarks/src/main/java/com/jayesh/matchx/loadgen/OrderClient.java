@@ -0,0 +1,23 @@
+package com.jayesh.matchx.loadgen;
+
+import com.jayesh.matchx.model.OrderSide;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Where the load generator sends its orders. Prices are in ticks and quantities in lots; calls
+ * must not block, and a future that fails counts as an error rather than a latency sample.
+ */
+public interface OrderClient extends AutoCloseable {
+
+    /**
+     * Submits a limit order and completes with its id if any quantity rests on the book, or
+     * {@code 0} if it was filled completely.
+     */
+    CompletableFuture<Long> submit(String symbol, OrderSide side, long priceTicks, long quantityLots);
+
+    CompletableFuture<Boolean> cancel(String symbol, long orderId);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,92 @@
+package com.jayesh.matchx.loadgen;
+
+import com.jayesh.matchx.model.OrderSide;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sends orders to the REST API of a running matching engine. Ticks and lots are converted with
+ * the given tick and lot sizes, which must be multiples of the instruments' configured ones.
+ */
+public final class RestOrderClient implements OrderClient {
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"?(\\d+)");
+    private static final Pattern STATUS = Pattern.compile("\"status\"\\s*:\\s*\"(\\w+)\"");
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+    private final String ordersUrl;
+    private final BigDecimal tickSize;
+    private final BigDecimal lotSize;
+
+    public RestOrderClient(String baseUrl, BigDecimal tickSize, BigDecimal lotSize) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+        this.ordersUrl = baseUrl.replaceAll("/+$", "") + "/api/v1/orders";
+        this.tickSize = tickSize;
+        this.lotSize = lotSize;
+    }
+
+    @Override
+    public CompletableFuture<Long> submit(String symbol, OrderSide side, long priceTicks, long quantityLots) {
+        String body = "{\"symbol\":\"" + symbol + "\",\"side\":\"" + side
+            + "\",\"price\":" + tickSize.multiply(BigDecimal.valueOf(priceTicks)).toPlainString()
+            + ",\"quantity\":" + lotSize.multiply(BigDecimal.valueOf(quantityLots)).toPlainString() + "}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ordersUrl))
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenApply(RestOrderClient::checked)
+            .thenApply(RestOrderClient::restingId);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> cancel(String symbol, long orderId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ordersUrl + "/" + orderId
+                + "?symbol=" + URLEncoder.encode(symbol, StandardCharsets.UTF_8)))
+            .timeout(TIMEOUT)
+            .DELETE()
+            .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenApply(RestOrderClient::checked)
+            .thenApply(body -> body.contains("true"));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static String checked(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new CompletionException(new IllegalStateException(
+                "HTTP " + response.statusCode() + ": " + response.body()));
+        }
+        return response.body();
+    }
+
+    private static long restingId(String body) {
+        Matcher status = STATUS.matcher(body);
+        if (status.find() && !status.group(1).equals("OPEN") && !status.group(1).equals("PARTIALLY_FILLED")) {
+            return 0L;
+        }
+        Matcher id = ID.matcher(body);
+        if (!id.find()) {
+            throw new CompletionException(new IllegalStateException("No order id in response: " + body));
+        }
+        return Long.parseLong(id.group(1));
+    }
+}
@@ -0,0 +1,25 @@
+package com.jayesh.common.trade;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * All fills produced by one aggressive order on one symbol, as carried on the trade topic.
+ * Prices are {@code price * 10^-priceScale}, quantities {@code quantity * 10^-quantityScale}.
+ */
+public record TradeBatchEvent(
+    String symbol,
+    long takerOrderId,
+    TradeSide takerSide,
+    int priceScale,
+    int quantityScale,
+    List<TradeEvent> trades
+) {
+    public BigDecimal toPrice(long price) {
+        return BigDecimal.valueOf(price, priceScale);
+    }
+
+    public BigDecimal toQuantity(long quantity) {
+        return BigDecimal.valueOf(quantity, quantityScale);
+    }
+}
@@ -0,0 +1,19 @@
+package com.jayesh.common.trade;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class TradeBatchEventDeserializer implements Deserializer<TradeBatchEvent> {
+
+    @Override
+    public TradeBatchEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return TradeEventCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Cannot decode trade event from " + topic, e);
+        }
+    }
+}
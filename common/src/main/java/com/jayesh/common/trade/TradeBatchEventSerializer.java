@@ -0,0 +1,11 @@
+package com.jayesh.common.trade;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+public class TradeBatchEventSerializer implements Serializer<TradeBatchEvent> {
+
+    @Override
+    public byte[] serialize(String topic, TradeBatchEvent data) {
+        return data == null ? null : TradeEventCodec.encode(data);
+    }
+}
@@ -0,0 +1,16 @@
+package com.jayesh.common.trade;
+
+/**
+ * One fill of a {@link TradeBatchEvent}. Price and quantity are fixed-point mantissas in the
+ * scales of the enclosing batch; the timestamp is in nanoseconds since the epoch.
+ */
+public record TradeEvent(
+    long tradeId,
+    long sequence,
+    long price,
+    long quantity,
+    long buyOrderId,
+    long sellOrderId,
+    long timestamp
+) {
+}
@@ -0,0 +1,96 @@
+package com.jayesh.common.trade;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of {@link TradeBatchEvent}. Integers are big-endian and every fill has the
+ * same width, so a batch is sized and written in one pass.
+ *
+ * <pre>
+ * event := version:byte symbolLength:byte symbol:ascii[symbolLength] takerOrderId:long
+ *          takerSide:byte priceScale:byte quantityScale:byte count:int fill[count]
+ * fill  := tradeId:long sequence:long price:long quantity:long
+ *          buyOrderId:long sellOrderId:long timestamp:long
+ * </pre>
+ *
+ * The version byte can never be {@code '{'}, so readers can tell binary records from the JSON
+ * fallback by their first byte.
+ */
+public final class TradeEventCodec {
+    public static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 1 + 1 + 8 + 1 + 1 + 1 + 4;
+    private static final int FILL_SIZE = 7 * 8;
+    private static final TradeSide[] SIDES = TradeSide.values();
+
+    private TradeEventCodec() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == VERSION;
+    }
+
+    public static byte[] encode(TradeBatchEvent event) {
+        byte[] symbol = event.symbol().getBytes(StandardCharsets.US_ASCII);
+        if (symbol.length > 255) {
+            throw new IllegalArgumentException("Symbol too long: " + event.symbol());
+        }
+        List<TradeEvent> trades = event.trades();
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + symbol.length + trades.size() * FILL_SIZE);
+        out.put(VERSION)
+            .put((byte) symbol.length)
+            .put(symbol)
+            .putLong(event.takerOrderId())
+            .put((byte) event.takerSide().ordinal())
+            .put((byte) event.priceScale())
+            .put((byte) event.quantityScale())
+            .putInt(trades.size());
+        for (TradeEvent trade : trades) {
+            out.putLong(trade.tradeId())
+                .putLong(trade.sequence())
+                .putLong(trade.price())
+                .putLong(trade.quantity())
+                .putLong(trade.buyOrderId())
+                .putLong(trade.sellOrderId())
+                .putLong(trade.timestamp());
+        }
+        return out.array();
+    }
+
+    public static TradeBatchEvent decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported trade event version " + version);
+            }
+            byte[] symbol = new byte[Byte.toUnsignedInt(in.get())];
+            in.get(symbol);
+            long takerOrderId = in.getLong();
+            int side = in.get();
+            if (side < 0 || side >= SIDES.length) {
+                throw new IllegalArgumentException("Invalid taker side " + side);
+            }
+            int priceScale = in.get();
+            int quantityScale = in.get();
+            int count = in.getInt();
+            if (count < 0 || count > in.remaining() / FILL_SIZE) {
+                throw new IllegalArgumentException("Invalid fill count " + count);
+            }
+            List<TradeEvent> trades = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                trades.add(new TradeEvent(
+                    in.getLong(), in.getLong(), in.getLong(), in.getLong(),
+                    in.getLong(), in.getLong(), in.getLong()));
+            }
+            return new TradeBatchEvent(new String(symbol, StandardCharsets.US_ASCII), takerOrderId,
+                SIDES[side], priceScale, quantityScale, trades);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated trade event", e);
+        }
+    }
+}
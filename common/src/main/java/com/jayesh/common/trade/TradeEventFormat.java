@@ -0,0 +1,9 @@
+package com.jayesh.common.trade;
+
+/**
+ * Encoding of records on the trade topic, selected by {@code matchx.trade-events.format}.
+ */
+public enum TradeEventFormat {
+    JSON,
+    BINARY
+}
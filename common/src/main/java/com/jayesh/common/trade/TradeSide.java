@@ -0,0 +1,6 @@
+package com.jayesh.common.trade;
+
+public enum TradeSide {
+    BUY,
+    SELL
+}
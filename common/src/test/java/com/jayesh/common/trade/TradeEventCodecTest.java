@@ -0,0 +1,68 @@
+package com.jayesh.common.trade;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TradeEventCodecTest {
+
+    private static final TradeBatchEvent BATCH = new TradeBatchEvent("BTC-USD", 42, TradeSide.SELL, 2, 8, List.of(
+        new TradeEvent(1, 10, 6_500_012, 150_000_000, 7, 42, 1_700_000_000_000_000_001L),
+        new TradeEvent(2, 11, 6_500_000, 1, 8, 42, 1_700_000_000_000_000_002L)));
+
+    @Test
+    void decodesWhatItEncodes() {
+        byte[] data = TradeEventCodec.encode(BATCH);
+
+        assertThat(TradeEventCodec.isBinary(data)).isTrue();
+        TradeBatchEvent decoded = TradeEventCodec.decode(data);
+        assertThat(decoded).isEqualTo(BATCH);
+        assertThat(decoded.toPrice(decoded.trades().get(0).price())).isEqualByComparingTo(new BigDecimal("65000.12"));
+        assertThat(decoded.toQuantity(decoded.trades().get(0).quantity())).isEqualByComparingTo(new BigDecimal("1.5"));
+    }
+
+    @Test
+    void encodesEmptyBatches() {
+        TradeBatchEvent empty = new TradeBatchEvent("ETH-USD", 1, TradeSide.BUY, 2, 8, List.of());
+
+        assertThat(TradeEventCodec.decode(TradeEventCodec.encode(empty))).isEqualTo(empty);
+    }
+
+    @Test
+    void tellsJsonFromBinaryByTheFirstByte() {
+        assertThat(TradeEventCodec.isBinary("{\"symbol\":\"BTC-USD\"}".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(TradeEventCodec.isBinary(new byte[0])).isFalse();
+        assertThat(TradeEventCodec.isBinary(null)).isFalse();
+    }
+
+    @Test
+    void rejectsTruncatedAndUnknownRecords() {
+        byte[] data = TradeEventCodec.encode(BATCH);
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+        byte[] unknownVersion = data.clone();
+        unknownVersion[0] = 2;
+
+        assertThatThrownBy(() -> TradeEventCodec.decode(truncated))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TradeEventCodec.decode(unknownVersion))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+        assertThatThrownBy(() -> new TradeBatchEventDeserializer().deserialize("trades", truncated))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void serializerAndDeserializerRoundTrip() {
+        byte[] data = new TradeBatchEventSerializer().serialize("trades", BATCH);
+
+        assertThat(new TradeBatchEventDeserializer().deserialize("trades", data)).isEqualTo(BATCH);
+        assertThat(new TradeBatchEventSerializer().serialize("trades", null)).isNull();
+    }
+}
@@ -5,6 +5,16 @@ export interface OrderBookEntry {
 
 export interface OrderBook {
     symbol: string;
+    sequence: number;
+    bids: OrderBookEntry[];
+    asks: OrderBookEntry[];
+}
+
+/** Changed levels between two book sequences; quantity 0 removes a level. */
+export interface OrderBookDelta {
+    symbol: string;
+    previousSequence: number;
+    sequence: number;
     bids: OrderBookEntry[];
     asks: OrderBookEntry[];
 }
@@ -3,7 +3,7 @@ import { HttpClient } from '@angular/common/http';
 import { Observable, Subject } from 'rxjs';
 import { Client, IMessage } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
-import { OrderBook } from '../models/orderbook.model';
+import { OrderBook, OrderBookDelta, OrderBookEntry } from '../models/orderbook.model';
 
 @Injectable({ providedIn: 'root' })
 export class OrderBookService implements OnDestroy {
@@ -13,6 +13,9 @@ export class OrderBookService implements OnDestroy {
     private stompClient: Client | null = null;
     private orderBookSubject = new Subject<OrderBook>();
     private currentSymbol: string | null = null;
+    private book: OrderBook | null = null;
+    private pendingDeltas: OrderBookDelta[] = [];
+    private resyncing = false;
 
     constructor(private http: HttpClient) { }
 
@@ -20,7 +23,11 @@ export class OrderBookService implements OnDestroy {
         return this.http.get<OrderBook>(this.restBaseUrl, { params: { symbol } });
     }
 
-    /** Connects (or reconnects) and subscribes to live order book updates for symbol. */
+    /**
+     * Connects (or reconnects) and keeps a local copy of symbol's book from the delta feed.
+     * Deltas are buffered while a REST snapshot loads and applied once their previous sequence
+     * matches the local book; any gap triggers a fresh snapshot.
+     */
     connect(symbol: string): Observable<OrderBook> {
         if (this.stompClient && this.currentSymbol === symbol) {
             return this.orderBookSubject.asObservable();
@@ -32,22 +39,74 @@ export class OrderBookService implements OnDestroy {
             webSocketFactory: () => new SockJS(this.wsUrl) as WebSocket,
             reconnectDelay: 3000,
             onConnect: () => {
-                this.stompClient?.subscribe(`/topic/orderbook/${symbol}`, (msg: IMessage) => {
-                    const data: OrderBook = JSON.parse(msg.body);
-                    this.orderBookSubject.next(data);
+                this.book = null;
+                this.pendingDeltas = [];
+                this.stompClient?.subscribe(`/topic/orderbook/${symbol}/delta`, (msg: IMessage) => {
+                    this.onDelta(JSON.parse(msg.body));
                 });
+                this.resync(symbol);
             },
         });
         this.stompClient.activate();
         return this.orderBookSubject.asObservable();
     }
 
+    private resync(symbol: string): void {
+        this.book = null;
+        this.resyncing = true;
+        this.getSnapshot(symbol).subscribe({
+            next: (ob) => {
+                if (symbol !== this.currentSymbol) {
+                    return;
+                }
+                this.resyncing = false;
+                this.book = ob;
+                const pending = this.pendingDeltas.filter(d => d.sequence > ob.sequence);
+                this.pendingDeltas = [];
+                this.orderBookSubject.next(ob);
+                pending.forEach(d => this.onDelta(d));
+            },
+            error: () => { this.resyncing = false; }
+        });
+    }
+
+    private onDelta(delta: OrderBookDelta): void {
+        if (delta.symbol !== this.currentSymbol) {
+            return;
+        }
+        if (!this.book) {
+            if (this.resyncing) {
+                this.pendingDeltas.push(delta);
+            } else {
+                this.resync(delta.symbol);
+            }
+            return;
+        }
+        if (delta.sequence <= this.book.sequence) {
+            return;
+        }
+        if (delta.previousSequence !== this.book.sequence) {
+            this.pendingDeltas = [delta];
+            this.resync(delta.symbol);
+            return;
+        }
+        this.book = {
+            symbol: this.book.symbol,
+            sequence: delta.sequence,
+            bids: applyLevels(this.book.bids, delta.bids, (a, b) => b - a),
+            asks: applyLevels(this.book.asks, delta.asks, (a, b) => a - b),
+        };
+        this.orderBookSubject.next(this.book);
+    }
+
     disconnect(): void {
         if (this.stompClient?.active) {
             this.stompClient.deactivate();
         }
         this.stompClient = null;
         this.currentSymbol = null;
+        this.book = null;
+        this.pendingDeltas = [];
     }
 
     ngOnDestroy(): void {
@@ -55,3 +114,17 @@ export class OrderBookService implements OnDestroy {
         this.orderBookSubject.complete();
     }
 }
+
+function applyLevels(levels: OrderBookEntry[], changes: OrderBookEntry[],
+                     compare: (a: number, b: number) => number): OrderBookEntry[] {
+    const byPrice = new Map<number, OrderBookEntry>();
+    levels.forEach(level => byPrice.set(Number(level.price), level));
+    changes.forEach(change => {
+        if (Number(change.quantity) === 0) {
+            byPrice.delete(Number(change.price));
+        } else {
+            byPrice.set(Number(change.price), change);
+        }
+    });
+    return [...byPrice.values()].sort((a, b) => compare(Number(a.price), Number(b.price)));
+}
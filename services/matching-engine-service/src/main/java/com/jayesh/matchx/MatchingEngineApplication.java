@@ -1,13 +1,23 @@
 package com.jayesh.matchx;
 
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.config.GatewayProperties;
+import com.jayesh.matchx.config.InstrumentProperties;
 import com.jayesh.matchx.engine.MatchingEngine;
-import com.jayesh.matchx.service.OrderBookWebSocketService;
+import com.jayesh.matchx.gateway.GatewayOrders;
+import com.jayesh.matchx.model.Instrument;
+import com.jayesh.matchx.service.InstrumentService;
 import com.jayesh.matchx.service.TradePublisherService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableConfigurationProperties({InstrumentProperties.class, EngineProperties.class, GatewayProperties.class})
 public class MatchingEngineApplication {
 
     public static void main(String[] args) {
@@ -15,18 +25,19 @@ public class MatchingEngineApplication {
     }
 
     @Bean
-    public MatchingEngine matchingEngine(TradePublisherService tradePublisherService, 
-                                         OrderBookWebSocketService webSocketService) {
-        return new MatchingEngine(trade -> {
-            try {
-                tradePublisherService.publishTrade(trade);
-                var snapshot = tradePublisherService.getOrderBookSnapshot(trade.getSymbol());
-                if (snapshot != null) {
-                    webSocketService.broadcastOrderBookUpdate(snapshot);
-                }
-            } catch (Exception e) {
-                System.err.println("Error publishing trade: " + e.getMessage());
-            }
-        });
+    public MatchingEngine matchingEngine(EngineProperties engineProperties,
+                                         TradePublisherService tradePublisherService,
+                                         GatewayOrders gatewayOrders,
+                                         InstrumentService instrumentService,
+                                         @Value("${matchx.orderbook.default-depth:50}") int defaultSnapshotDepth) {
+        return new MatchingEngine(engineProperties, trades -> {
+            gatewayOrders.onTrades(trades);
+            tradePublisherService.publishTrades(trades);
+        }, defaultSnapshotDepth,
+            symbol -> {
+                Instrument instrument = instrumentService.findInstrument(symbol);
+                return engineProperties.resolveLadderSize(instrument != null ? instrument.getTickSize() : null);
+            },
+            gatewayOrders::onCancelled);
     }
 }
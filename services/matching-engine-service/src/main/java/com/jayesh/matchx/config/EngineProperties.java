@@ -0,0 +1,334 @@
+package com.jayesh.matchx.config;
+
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.engine.journal.SyncPolicy;
+import com.jayesh.matchx.engine.sequencer.WaitStrategyType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "matchx.engine")
+public class EngineProperties {
+
+    private int ringBufferSize = 8192;
+    private WaitStrategyType waitStrategy = WaitStrategyType.BLOCKING;
+    private int ladderSize = 0;
+    private BigDecimal ladderPriceRange = new BigDecimal("10");
+    private int viewDepth = OrderBook.DEFAULT_VIEW_DEPTH;
+    private int shards = 0;
+    private Map<String, Integer> symbolShards = new HashMap<>();
+    private List<String> dedicatedSymbols = new ArrayList<>();
+    private boolean pooling = false;
+    private int poolSize = 16384;
+    private int outputBufferSize = 65536;
+    private Journal journal = new Journal();
+    private Snapshot snapshot = new Snapshot();
+    private Metrics metrics = new Metrics();
+    private Audit audit = new Audit();
+    private RecentOrders recentOrders = new RecentOrders();
+
+    public int resolveShardCount() {
+        return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Ticks per ladder window for an instrument with {@code tickSize}: the configured ladder size
+     * if set, otherwise enough ticks to span {@code ladderPriceRange}, within
+     * [{@value OrderBook#MIN_LADDER_SIZE}, {@value OrderBook#MAX_LADDER_SIZE}]. Without a tick
+     * size the book default is used.
+     */
+    public int resolveLadderSize(BigDecimal tickSize) {
+        if (ladderSize > 0) {
+            return ladderSize;
+        }
+        if (tickSize == null || tickSize.signum() <= 0) {
+            return OrderBook.DEFAULT_LADDER_SIZE;
+        }
+        BigDecimal ticks = ladderPriceRange.divide(tickSize, 0, RoundingMode.CEILING);
+        return (int) Math.max(OrderBook.MIN_LADDER_SIZE,
+            Math.min(OrderBook.MAX_LADDER_SIZE, ticks.min(BigDecimal.valueOf(Integer.MAX_VALUE)).longValue()));
+    }
+
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    public void setRingBufferSize(int ringBufferSize) {
+        this.ringBufferSize = ringBufferSize;
+    }
+
+    public WaitStrategyType getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public void setWaitStrategy(WaitStrategyType waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    public int getLadderSize() {
+        return ladderSize;
+    }
+
+    public void setLadderSize(int ladderSize) {
+        this.ladderSize = ladderSize;
+    }
+
+    public BigDecimal getLadderPriceRange() {
+        return ladderPriceRange;
+    }
+
+    public void setLadderPriceRange(BigDecimal ladderPriceRange) {
+        this.ladderPriceRange = ladderPriceRange;
+    }
+
+    public int getViewDepth() {
+        return viewDepth;
+    }
+
+    public void setViewDepth(int viewDepth) {
+        this.viewDepth = viewDepth;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public Map<String, Integer> getSymbolShards() {
+        return symbolShards;
+    }
+
+    public void setSymbolShards(Map<String, Integer> symbolShards) {
+        this.symbolShards = symbolShards;
+    }
+
+    public List<String> getDedicatedSymbols() {
+        return dedicatedSymbols;
+    }
+
+    public void setDedicatedSymbols(List<String> dedicatedSymbols) {
+        this.dedicatedSymbols = dedicatedSymbols;
+    }
+
+    public boolean isPooling() {
+        return pooling;
+    }
+
+    public void setPooling(boolean pooling) {
+        this.pooling = pooling;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    public void setOutputBufferSize(int outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public Audit getAudit() {
+        return audit;
+    }
+
+    public void setAudit(Audit audit) {
+        this.audit = audit;
+    }
+
+    public RecentOrders getRecentOrders() {
+        return recentOrders;
+    }
+
+    public void setRecentOrders(RecentOrders recentOrders) {
+        this.recentOrders = recentOrders;
+    }
+
+    public static class Journal {
+        private boolean enabled = false;
+        private String directory = "data/journal";
+        private int segmentSize = 64 * 1024 * 1024;
+        private SyncPolicy syncPolicy = SyncPolicy.BATCH;
+        private long syncIntervalMs = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getSegmentSize() {
+            return segmentSize;
+        }
+
+        public void setSegmentSize(int segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        public SyncPolicy getSyncPolicy() {
+            return syncPolicy;
+        }
+
+        public void setSyncPolicy(SyncPolicy syncPolicy) {
+            this.syncPolicy = syncPolicy;
+        }
+
+        public long getSyncIntervalMs() {
+            return syncIntervalMs;
+        }
+
+        public void setSyncIntervalMs(long syncIntervalMs) {
+            this.syncIntervalMs = syncIntervalMs;
+        }
+    }
+
+    public static class Snapshot {
+        private boolean enabled = false;
+        private String directory = "data/snapshots";
+        private long intervalMs = 60_000;
+        private int retain = 2;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public int getRetain() {
+            return retain;
+        }
+
+        public void setRetain(int retain) {
+            this.retain = retain;
+        }
+    }
+
+    public static class Metrics {
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Audit {
+        private boolean enabled = false;
+        private String directory = "data/audit";
+        private int bufferSize = 65536;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+    }
+
+    public static class RecentOrders {
+        private int capacity = OrderBook.DEFAULT_RECENT_ORDERS;
+        private long maxAgeMs = 3_600_000;
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public long getMaxAgeMs() {
+            return maxAgeMs;
+        }
+
+        public void setMaxAgeMs(long maxAgeMs) {
+            this.maxAgeMs = maxAgeMs;
+        }
+    }
+}
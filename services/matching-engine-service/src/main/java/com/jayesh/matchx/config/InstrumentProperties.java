@@ -0,0 +1,60 @@
+package com.jayesh.matchx.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "matchx.instruments")
+public class InstrumentProperties {
+
+    private BigDecimal defaultTickSize = new BigDecimal("0.0001");
+    private BigDecimal defaultLotSize = new BigDecimal("0.000001");
+    private Map<String, Spec> symbols = new HashMap<>();
+
+    public BigDecimal getDefaultTickSize() {
+        return defaultTickSize;
+    }
+
+    public void setDefaultTickSize(BigDecimal defaultTickSize) {
+        this.defaultTickSize = defaultTickSize;
+    }
+
+    public BigDecimal getDefaultLotSize() {
+        return defaultLotSize;
+    }
+
+    public void setDefaultLotSize(BigDecimal defaultLotSize) {
+        this.defaultLotSize = defaultLotSize;
+    }
+
+    public Map<String, Spec> getSymbols() {
+        return symbols;
+    }
+
+    public void setSymbols(Map<String, Spec> symbols) {
+        this.symbols = symbols;
+    }
+
+    public static class Spec {
+        private BigDecimal tickSize;
+        private BigDecimal lotSize;
+
+        public BigDecimal getTickSize() {
+            return tickSize;
+        }
+
+        public void setTickSize(BigDecimal tickSize) {
+            this.tickSize = tickSize;
+        }
+
+        public BigDecimal getLotSize() {
+            return lotSize;
+        }
+
+        public void setLotSize(BigDecimal lotSize) {
+            this.lotSize = lotSize;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.jayesh.matchx.controller;
+
+import com.jayesh.matchx.dto.EngineMetricsDTO;
+import com.jayesh.matchx.engine.MatchingEngine;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/metrics/engine")
+public class EngineMetricsController {
+
+    private final MatchingEngine matchingEngine;
+
+    public EngineMetricsController(MatchingEngine matchingEngine) {
+        this.matchingEngine = matchingEngine;
+    }
+
+    @GetMapping
+    public ResponseEntity<EngineMetricsDTO> getMetrics() {
+        return ResponseEntity.ok(EngineMetricsDTO.fromMetrics(matchingEngine.getMetrics()));
+    }
+
+    @PutMapping("/enabled")
+    public ResponseEntity<EngineMetricsDTO> setEnabled(@RequestParam boolean enabled) {
+        matchingEngine.getMetrics().setEnabled(enabled);
+        return ResponseEntity.ok(EngineMetricsDTO.fromMetrics(matchingEngine.getMetrics()));
+    }
+}
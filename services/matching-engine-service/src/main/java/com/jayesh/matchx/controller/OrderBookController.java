@@ -2,6 +2,8 @@ package com.jayesh.matchx.controller;
 
 import com.jayesh.matchx.dto.OrderBookResponseDTO;
 import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Instrument;
+import com.jayesh.matchx.service.InstrumentService;
 import com.jayesh.matchx.service.OrderService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,18 +13,19 @@ import org.springframework.web.bind.annotation.*;
 public class OrderBookController {
 
     private final OrderService orderService;
+    private final InstrumentService instrumentService;
 
-    public OrderBookController(OrderService orderService) {
+    public OrderBookController(OrderService orderService, InstrumentService instrumentService) {
         this.orderService = orderService;
+        this.instrumentService = instrumentService;
     }
 
     @GetMapping
-    public ResponseEntity<OrderBookResponseDTO> getOrderBook(@RequestParam String symbol) {
-        OrderBook.OrderBookSnapshot snapshot = orderService.getOrderBookSnapshot(symbol);
-        return ResponseEntity.ok(new OrderBookResponseDTO(
-            snapshot.symbol(),
-            snapshot.bids(),
-            snapshot.asks()
-        ));
+    public ResponseEntity<OrderBookResponseDTO> getOrderBook(
+            @RequestParam String symbol,
+            @RequestParam(required = false) Integer depth) {
+        Instrument instrument = instrumentService.getInstrument(symbol);
+        OrderBook.OrderBookSnapshot snapshot = orderService.getOrderBookSnapshot(symbol, depth);
+        return ResponseEntity.ok(OrderBookResponseDTO.fromSnapshot(snapshot, instrument));
     }
 }
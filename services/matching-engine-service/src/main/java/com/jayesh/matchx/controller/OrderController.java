@@ -1,5 +1,7 @@
 package com.jayesh.matchx.controller;
 
+import com.jayesh.matchx.dto.BatchOrderRequestDTO;
+import com.jayesh.matchx.dto.BatchOrderResponseDTO;
 import com.jayesh.matchx.dto.OrderRequestDTO;
 import com.jayesh.matchx.dto.OrderResponseDTO;
 import com.jayesh.matchx.service.OrderService;
@@ -8,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -20,26 +23,31 @@ public class OrderController {
     }
 
     @PostMapping
-    public ResponseEntity<OrderResponseDTO> submitOrder(@Valid @RequestBody OrderRequestDTO request) {
-        return ResponseEntity.ok(orderService.submitOrder(request).join());
+    public CompletableFuture<ResponseEntity<OrderResponseDTO>> submitOrder(@Valid @RequestBody OrderRequestDTO request) {
+        return orderService.submitOrder(request).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<BatchOrderResponseDTO>> submitBatch(@Valid @RequestBody BatchOrderRequestDTO request) {
+        return orderService.submitBatch(request).thenApply(ResponseEntity::ok);
     }
 
     @DeleteMapping("/{orderId}")
-    public ResponseEntity<Map<String, Boolean>> cancelOrder(
+    public CompletableFuture<ResponseEntity<Map<String, Boolean>>> cancelOrder(
             @PathVariable String orderId,
             @RequestParam String symbol) {
-        Boolean result = orderService.cancelOrder(orderId, symbol).join();
-        return ResponseEntity.ok(Map.of("cancelled", result));
+        return orderService.cancelOrder(orderId, symbol)
+            .thenApply(result -> ResponseEntity.ok(Map.of("cancelled", result)));
     }
 
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponseDTO> getOrder(
             @PathVariable String orderId,
             @RequestParam String symbol) {
-        var order = orderService.getOrder(symbol, orderId);
+        OrderResponseDTO order = orderService.getOrder(symbol, orderId);
         if (order == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(OrderResponseDTO.fromOrder(order));
+        return ResponseEntity.ok(order);
     }
 }
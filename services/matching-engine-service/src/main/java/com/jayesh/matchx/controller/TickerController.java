@@ -0,0 +1,43 @@
+package com.jayesh.matchx.controller;
+
+import com.jayesh.matchx.dto.TickerDTO;
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Instrument;
+import com.jayesh.matchx.service.InstrumentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/ticker")
+public class TickerController {
+
+    private final MatchingEngine matchingEngine;
+    private final InstrumentService instrumentService;
+
+    public TickerController(MatchingEngine matchingEngine, InstrumentService instrumentService) {
+        this.matchingEngine = matchingEngine;
+        this.instrumentService = instrumentService;
+    }
+
+    @GetMapping(params = "symbol")
+    public ResponseEntity<TickerDTO> getTicker(@RequestParam String symbol) {
+        Instrument instrument = instrumentService.getInstrument(symbol);
+        return ResponseEntity.ok(TickerDTO.fromTicker(matchingEngine.getTicker(symbol), instrument));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TickerDTO>> getTickers() {
+        List<TickerDTO> tickers = new ArrayList<>();
+        for (OrderBook.Ticker ticker : matchingEngine.getTickers()) {
+            Instrument instrument = instrumentService.findInstrument(ticker.symbol());
+            if (instrument != null) {
+                tickers.add(TickerDTO.fromTicker(ticker, instrument));
+            }
+        }
+        return ResponseEntity.ok(tickers);
+    }
+}
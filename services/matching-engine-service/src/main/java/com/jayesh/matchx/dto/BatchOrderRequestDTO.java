@@ -0,0 +1,38 @@
+package com.jayesh.matchx.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cancels are applied before new orders so a client can replace its quotes in one request.
+ */
+public class BatchOrderRequestDTO {
+    @Valid
+    @NotNull(message = "Cancels must not be null")
+    @Size(max = 1000, message = "At most 1000 cancels per batch")
+    private List<CancelRequestDTO> cancels = new ArrayList<>();
+
+    @Valid
+    @NotNull(message = "Orders must not be null")
+    @Size(max = 1000, message = "At most 1000 orders per batch")
+    private List<OrderRequestDTO> orders = new ArrayList<>();
+
+    public List<CancelRequestDTO> getCancels() {
+        return cancels;
+    }
+
+    public void setCancels(List<CancelRequestDTO> cancels) {
+        this.cancels = cancels;
+    }
+
+    public List<OrderRequestDTO> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderRequestDTO> orders) {
+        this.orders = orders;
+    }
+}
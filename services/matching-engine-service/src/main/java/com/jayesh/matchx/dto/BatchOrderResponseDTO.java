@@ -0,0 +1,32 @@
+package com.jayesh.matchx.dto;
+
+import java.util.List;
+
+public class BatchOrderResponseDTO {
+    private List<CancelResponseDTO> cancels;
+    private List<OrderResponseDTO> orders;
+
+    public BatchOrderResponseDTO() {
+    }
+
+    public BatchOrderResponseDTO(List<CancelResponseDTO> cancels, List<OrderResponseDTO> orders) {
+        this.cancels = cancels;
+        this.orders = orders;
+    }
+
+    public List<CancelResponseDTO> getCancels() {
+        return cancels;
+    }
+
+    public void setCancels(List<CancelResponseDTO> cancels) {
+        this.cancels = cancels;
+    }
+
+    public List<OrderResponseDTO> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderResponseDTO> orders) {
+        this.orders = orders;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jayesh.matchx.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class CancelRequestDTO {
+    @NotBlank(message = "Symbol is required")
+    private String symbol;
+
+    @NotBlank(message = "Order id is required")
+    private String orderId;
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jayesh.matchx.dto;
+
+public class CancelResponseDTO {
+    private String symbol;
+    private String orderId;
+    private boolean cancelled;
+
+    public CancelResponseDTO() {
+    }
+
+    public CancelResponseDTO(String symbol, String orderId, boolean cancelled) {
+        this.symbol = symbol;
+        this.orderId = orderId;
+        this.cancelled = cancelled;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+}
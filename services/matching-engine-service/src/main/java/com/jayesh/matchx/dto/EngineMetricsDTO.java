@@ -0,0 +1,37 @@
+package com.jayesh.matchx.dto;
+
+import com.jayesh.matchx.engine.metrics.EngineMetrics;
+import com.jayesh.matchx.engine.metrics.ShardMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EngineMetricsDTO {
+    private boolean enabled;
+    private Map<String, Map<String, ShardMetrics.Summary>> shards;
+
+    public static EngineMetricsDTO fromMetrics(EngineMetrics metrics) {
+        EngineMetricsDTO dto = new EngineMetricsDTO();
+        dto.setEnabled(metrics.isEnabled());
+        Map<String, Map<String, ShardMetrics.Summary>> shards = new LinkedHashMap<>();
+        metrics.getShards().forEach((name, shard) -> shards.put(name, shard.summarize()));
+        dto.setShards(shards);
+        return dto;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Map<String, ShardMetrics.Summary>> getShards() {
+        return shards;
+    }
+
+    public void setShards(Map<String, Map<String, ShardMetrics.Summary>> shards) {
+        this.shards = shards;
+    }
+}
@@ -0,0 +1,77 @@
+package com.jayesh.matchx.dto;
+
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Instrument;
+
+import java.util.List;
+
+/**
+ * Changed price levels of one book. Applies on top of the book at {@code previousSequence} and
+ * yields the book at {@code sequence}; a level with zero quantity has been removed.
+ */
+public class OrderBookDeltaDTO {
+    private String symbol;
+    private long previousSequence;
+    private long sequence;
+    private List<OrderBookEntryDTO> bids;
+    private List<OrderBookEntryDTO> asks;
+
+    public OrderBookDeltaDTO(String symbol, long previousSequence, long sequence,
+                             List<OrderBookEntryDTO> bids, List<OrderBookEntryDTO> asks) {
+        this.symbol = symbol;
+        this.previousSequence = previousSequence;
+        this.sequence = sequence;
+        this.bids = bids;
+        this.asks = asks;
+    }
+
+    public static OrderBookDeltaDTO fromDelta(OrderBook.OrderBookDelta delta, Instrument instrument) {
+        return new OrderBookDeltaDTO(
+            delta.symbol(),
+            delta.previousSequence(),
+            delta.sequence(),
+            OrderBookResponseDTO.toEntries(delta.bids(), instrument),
+            OrderBookResponseDTO.toEntries(delta.asks(), instrument)
+        );
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public long getPreviousSequence() {
+        return previousSequence;
+    }
+
+    public void setPreviousSequence(long previousSequence) {
+        this.previousSequence = previousSequence;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public List<OrderBookEntryDTO> getBids() {
+        return bids;
+    }
+
+    public void setBids(List<OrderBookEntryDTO> bids) {
+        this.bids = bids;
+    }
+
+    public List<OrderBookEntryDTO> getAsks() {
+        return asks;
+    }
+
+    public void setAsks(List<OrderBookEntryDTO> asks) {
+        this.asks = asks;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jayesh.matchx.dto;
+
+import java.math.BigDecimal;
+
+public class OrderBookEntryDTO {
+    private BigDecimal price;
+    private BigDecimal quantity;
+    private int orderCount;
+
+    public OrderBookEntryDTO(BigDecimal price, BigDecimal quantity, int orderCount) {
+        this.price = price;
+        this.quantity = quantity;
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+        this.quantity = quantity;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(int orderCount) {
+        this.orderCount = orderCount;
+    }
+}
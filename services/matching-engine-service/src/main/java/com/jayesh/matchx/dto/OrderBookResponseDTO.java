@@ -1,19 +1,46 @@
 package com.jayesh.matchx.dto;
 
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Instrument;
 import com.jayesh.matchx.model.OrderBookEntry;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public class OrderBookResponseDTO {
     private String symbol;
-    private List<OrderBookEntry> bids;
-    private List<OrderBookEntry> asks;
+    private long sequence;
+    private List<OrderBookEntryDTO> bids;
+    private List<OrderBookEntryDTO> asks;
 
-    public OrderBookResponseDTO(String symbol, List<OrderBookEntry> bids, List<OrderBookEntry> asks) {
+    public OrderBookResponseDTO(String symbol, long sequence, List<OrderBookEntryDTO> bids, List<OrderBookEntryDTO> asks) {
         this.symbol = symbol;
+        this.sequence = sequence;
         this.bids = bids;
         this.asks = asks;
     }
 
+    public static OrderBookResponseDTO fromSnapshot(OrderBook.OrderBookSnapshot snapshot, Instrument instrument) {
+        return new OrderBookResponseDTO(
+            snapshot.symbol(),
+            snapshot.sequence(),
+            toEntries(snapshot.bids(), instrument),
+            toEntries(snapshot.asks(), instrument)
+        );
+    }
+
+    static List<OrderBookEntryDTO> toEntries(List<OrderBookEntry> levels, Instrument instrument) {
+        List<OrderBookEntryDTO> entries = new ArrayList<>(levels.size());
+        for (OrderBookEntry level : levels) {
+            entries.add(new OrderBookEntryDTO(
+                instrument.toPrice(level.getPrice()),
+                instrument.toQuantity(level.getQuantity()),
+                level.getOrderCount()
+            ));
+        }
+        return entries;
+    }
+
     public String getSymbol() {
         return symbol;
     }
@@ -22,19 +49,27 @@ public class OrderBookResponseDTO {
         this.symbol = symbol;
     }
 
-    public List<OrderBookEntry> getBids() {
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public List<OrderBookEntryDTO> getBids() {
         return bids;
     }
 
-    public void setBids(List<OrderBookEntry> bids) {
+    public void setBids(List<OrderBookEntryDTO> bids) {
         this.bids = bids;
     }
 
-    public List<OrderBookEntry> getAsks() {
+    public List<OrderBookEntryDTO> getAsks() {
         return asks;
     }
 
-    public void setAsks(List<OrderBookEntry> asks) {
+    public void setAsks(List<OrderBookEntryDTO> asks) {
         this.asks = asks;
     }
 }
@@ -1,8 +1,10 @@
 package com.jayesh.matchx.dto;
 
-import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.Instrument;
+import com.jayesh.matchx.model.OrderReport;
 import com.jayesh.matchx.model.OrderSide;
 import com.jayesh.matchx.model.OrderStatus;
+import com.jayesh.matchx.util.EpochClock;
 import java.math.BigDecimal;
 import java.time.Instant;
 
@@ -16,16 +18,16 @@ public class OrderResponseDTO {
     private OrderStatus status;
     private Instant timestamp;
 
-    public static OrderResponseDTO fromOrder(Order order) {
+    public static OrderResponseDTO fromReport(OrderReport report, Instrument instrument) {
         OrderResponseDTO dto = new OrderResponseDTO();
-        dto.setId(order.getId());
-        dto.setSymbol(order.getSymbol());
-        dto.setSide(order.getSide());
-        dto.setPrice(order.getPrice());
-        dto.setQuantity(order.getQuantity());
-        dto.setRemainingQuantity(order.getRemainingQuantity());
-        dto.setStatus(order.getStatus());
-        dto.setTimestamp(order.getTimestamp());
+        dto.setId(Long.toString(report.id()));
+        dto.setSymbol(report.symbol());
+        dto.setSide(report.side());
+        dto.setPrice(instrument.toPrice(report.price()));
+        dto.setQuantity(instrument.toQuantity(report.quantity()));
+        dto.setRemainingQuantity(instrument.toQuantity(report.remainingQuantity()));
+        dto.setStatus(report.status());
+        dto.setTimestamp(EpochClock.toInstant(report.timestamp()));
         return dto;
     }
 
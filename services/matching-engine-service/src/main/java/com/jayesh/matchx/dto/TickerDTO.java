@@ -0,0 +1,113 @@
+package com.jayesh.matchx.dto;
+
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Instrument;
+
+import java.math.BigDecimal;
+
+/**
+ * Best bid, best ask and last trade of one symbol. A side with no orders, or the last trade
+ * before any fill, is {@code null}.
+ */
+public class TickerDTO {
+    private String symbol;
+    private long sequence;
+    private BigDecimal bidPrice;
+    private BigDecimal bidQuantity;
+    private BigDecimal askPrice;
+    private BigDecimal askQuantity;
+    private BigDecimal lastPrice;
+    private BigDecimal lastQuantity;
+
+    public TickerDTO(String symbol, long sequence, BigDecimal bidPrice, BigDecimal bidQuantity,
+                     BigDecimal askPrice, BigDecimal askQuantity, BigDecimal lastPrice, BigDecimal lastQuantity) {
+        this.symbol = symbol;
+        this.sequence = sequence;
+        this.bidPrice = bidPrice;
+        this.bidQuantity = bidQuantity;
+        this.askPrice = askPrice;
+        this.askQuantity = askQuantity;
+        this.lastPrice = lastPrice;
+        this.lastQuantity = lastQuantity;
+    }
+
+    public static TickerDTO fromTicker(OrderBook.Ticker ticker, Instrument instrument) {
+        boolean hasBid = ticker.bidQuantity() != 0;
+        boolean hasAsk = ticker.askQuantity() != 0;
+        boolean hasTrade = ticker.lastQuantity() != 0;
+        return new TickerDTO(
+            ticker.symbol(),
+            ticker.sequence(),
+            hasBid ? instrument.toPrice(ticker.bidPrice()) : null,
+            hasBid ? instrument.toQuantity(ticker.bidQuantity()) : null,
+            hasAsk ? instrument.toPrice(ticker.askPrice()) : null,
+            hasAsk ? instrument.toQuantity(ticker.askQuantity()) : null,
+            hasTrade ? instrument.toPrice(ticker.lastPrice()) : null,
+            hasTrade ? instrument.toQuantity(ticker.lastQuantity()) : null
+        );
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public BigDecimal getBidPrice() {
+        return bidPrice;
+    }
+
+    public void setBidPrice(BigDecimal bidPrice) {
+        this.bidPrice = bidPrice;
+    }
+
+    public BigDecimal getBidQuantity() {
+        return bidQuantity;
+    }
+
+    public void setBidQuantity(BigDecimal bidQuantity) {
+        this.bidQuantity = bidQuantity;
+    }
+
+    public BigDecimal getAskPrice() {
+        return askPrice;
+    }
+
+    public void setAskPrice(BigDecimal askPrice) {
+        this.askPrice = askPrice;
+    }
+
+    public BigDecimal getAskQuantity() {
+        return askQuantity;
+    }
+
+    public void setAskQuantity(BigDecimal askQuantity) {
+        this.askQuantity = askQuantity;
+    }
+
+    public BigDecimal getLastPrice() {
+        return lastPrice;
+    }
+
+    public void setLastPrice(BigDecimal lastPrice) {
+        this.lastPrice = lastPrice;
+    }
+
+    public BigDecimal getLastQuantity() {
+        return lastQuantity;
+    }
+
+    public void setLastQuantity(BigDecimal lastQuantity) {
+        this.lastQuantity = lastQuantity;
+    }
+}
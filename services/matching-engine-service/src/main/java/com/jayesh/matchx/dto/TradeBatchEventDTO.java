@@ -0,0 +1,86 @@
+package com.jayesh.matchx.dto;
+
+import com.jayesh.matchx.model.Instrument;
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.Trade;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All fills produced by one aggressive order, published as a single Kafka record keyed by symbol.
+ * Trades carry consecutive per-symbol sequence numbers from {@code firstSequence} to
+ * {@code lastSequence}.
+ */
+public class TradeBatchEventDTO {
+    private String symbol;
+    private String takerOrderId;
+    private OrderSide takerSide;
+    private long firstSequence;
+    private long lastSequence;
+    private List<TradeEventDTO> trades;
+
+    public static TradeBatchEventDTO fromTrades(List<Trade> trades, Instrument instrument) {
+        Trade first = trades.get(0);
+        TradeBatchEventDTO dto = new TradeBatchEventDTO();
+        dto.setSymbol(first.getSymbol());
+        dto.setTakerOrderId(Long.toString(first.getTakerOrderId()));
+        dto.setTakerSide(first.getTakerSide());
+        dto.setFirstSequence(first.getSequence());
+        dto.setLastSequence(trades.get(trades.size() - 1).getSequence());
+        List<TradeEventDTO> events = new ArrayList<>(trades.size());
+        for (Trade trade : trades) {
+            events.add(TradeEventDTO.fromTrade(trade, instrument));
+        }
+        dto.setTrades(events);
+        return dto;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getTakerOrderId() {
+        return takerOrderId;
+    }
+
+    public void setTakerOrderId(String takerOrderId) {
+        this.takerOrderId = takerOrderId;
+    }
+
+    public OrderSide getTakerSide() {
+        return takerSide;
+    }
+
+    public void setTakerSide(OrderSide takerSide) {
+        this.takerSide = takerSide;
+    }
+
+    public long getFirstSequence() {
+        return firstSequence;
+    }
+
+    public void setFirstSequence(long firstSequence) {
+        this.firstSequence = firstSequence;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public List<TradeEventDTO> getTrades() {
+        return trades;
+    }
+
+    public void setTrades(List<TradeEventDTO> trades) {
+        this.trades = trades;
+    }
+}
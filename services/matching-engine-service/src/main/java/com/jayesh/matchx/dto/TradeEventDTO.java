@@ -0,0 +1,106 @@
+package com.jayesh.matchx.dto;
+
+import com.jayesh.matchx.model.Instrument;
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.Trade;
+import com.jayesh.matchx.util.EpochClock;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public class TradeEventDTO {
+    private String tradeId;
+    private String symbol;
+    private long sequence;
+    private BigDecimal price;
+    private BigDecimal quantity;
+    private String buyOrderId;
+    private String sellOrderId;
+    private OrderSide takerSide;
+    private Instant timestamp;
+
+    public static TradeEventDTO fromTrade(Trade trade, Instrument instrument) {
+        TradeEventDTO dto = new TradeEventDTO();
+        dto.setTradeId(Long.toString(trade.getTradeId()));
+        dto.setSymbol(trade.getSymbol());
+        dto.setSequence(trade.getSequence());
+        dto.setPrice(instrument.toPrice(trade.getPrice()));
+        dto.setQuantity(instrument.toQuantity(trade.getQuantity()));
+        dto.setBuyOrderId(Long.toString(trade.getBuyOrderId()));
+        dto.setSellOrderId(Long.toString(trade.getSellOrderId()));
+        dto.setTakerSide(trade.getTakerSide());
+        dto.setTimestamp(EpochClock.toInstant(trade.getTimestamp()));
+        return dto;
+    }
+
+    public String getTradeId() {
+        return tradeId;
+    }
+
+    public void setTradeId(String tradeId) {
+        this.tradeId = tradeId;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+        this.quantity = quantity;
+    }
+
+    public String getBuyOrderId() {
+        return buyOrderId;
+    }
+
+    public void setBuyOrderId(String buyOrderId) {
+        this.buyOrderId = buyOrderId;
+    }
+
+    public String getSellOrderId() {
+        return sellOrderId;
+    }
+
+    public void setSellOrderId(String sellOrderId) {
+        this.sellOrderId = sellOrderId;
+    }
+
+    public OrderSide getTakerSide() {
+        return takerSide;
+    }
+
+    public void setTakerSide(OrderSide takerSide) {
+        this.takerSide = takerSide;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+}
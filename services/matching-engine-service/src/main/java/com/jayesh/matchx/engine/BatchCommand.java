@@ -0,0 +1,23 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.model.OrderSide;
+
+/**
+ * One entry of {@link MatchingEngine#submitBatch}: a new order or a cancel, in ticks and lots.
+ */
+public record BatchCommand(
+    CommandType type,
+    String symbol,
+    OrderSide side,
+    long price,
+    long quantity,
+    long orderId
+) {
+    public static BatchCommand newOrder(String symbol, OrderSide side, long price, long quantity) {
+        return new BatchCommand(CommandType.NEW_ORDER, symbol, side, price, quantity, 0);
+    }
+
+    public static BatchCommand cancel(String symbol, long orderId) {
+        return new BatchCommand(CommandType.CANCEL_ORDER, symbol, null, 0, 0, orderId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.model.OrderReport;
+
+/**
+ * Outcome of one {@link BatchCommand}: the order report for a new order, or whether a cancel
+ * took effect.
+ */
+public record BatchResult(OrderReport report, boolean cancelled) {
+}
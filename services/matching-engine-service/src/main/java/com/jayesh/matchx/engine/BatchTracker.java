@@ -0,0 +1,48 @@
+package com.jayesh.matchx.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the results of a batch that may span several shards and completes its single future
+ * when the last command finishes, instead of one future per command.
+ */
+final class BatchTracker {
+    private final BatchResult[] results;
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<BatchResult>> future = new CompletableFuture<>();
+    private volatile Throwable failure;
+
+    BatchTracker(int size) {
+        this.results = new BatchResult[size];
+        this.remaining = new AtomicInteger(size);
+    }
+
+    CompletableFuture<List<BatchResult>> getFuture() {
+        return future;
+    }
+
+    void complete(int index, BatchResult result) {
+        results[index] = result;
+        countDown();
+    }
+
+    void fail(Throwable t) {
+        if (failure == null) {
+            failure = t;
+        }
+        countDown();
+    }
+
+    private void countDown() {
+        if (remaining.decrementAndGet() == 0) {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(Arrays.asList(results));
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.jayesh.matchx.engine;
+
+public enum CommandType {
+    NEW_ORDER,
+    CANCEL_ORDER,
+    /** Slot claimed by a batch that was rejected before publishing; shards skip it. */
+    NO_OP
+}
@@ -0,0 +1,60 @@
+package com.jayesh.matchx.engine;
+
+/**
+ * Lock-free 64-bit id source for a single matching shard.
+ *
+ * <pre>
+ *  63  62            53 52                                   0
+ * +---+----------------+--------------------------------------+
+ * | 0 |  shard (10)    |  sequence (53)                       |
+ * +---+----------------+--------------------------------------+
+ * </pre>
+ *
+ * The sequence starts at {@code (millis since 2024-01-01) << 12}, so ids keep increasing across
+ * restarts as long as a shard averages fewer than 4096 ids per millisecond. It must only be used
+ * from the owning shard thread.
+ */
+public final class IdGenerator {
+    public static final int MAX_SHARDS = 1 << 10;
+
+    private static final long CUSTOM_EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final int SEQUENCE_BITS = 53;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long shardBits;
+    private long sequence;
+
+    public IdGenerator(int shardId) {
+        if (shardId < 0 || shardId >= MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard id must be between 0 and " + (MAX_SHARDS - 1));
+        }
+        this.shardBits = (long) shardId << SEQUENCE_BITS;
+        this.sequence = ((System.currentTimeMillis() - CUSTOM_EPOCH_MILLIS) << 12) & SEQUENCE_MASK;
+    }
+
+    public long nextId() {
+        sequence = (sequence + 1) & SEQUENCE_MASK;
+        return shardBits | sequence;
+    }
+
+    /**
+     * The most recently issued id, for persisting the generator in snapshots.
+     */
+    public long lastId() {
+        return shardBits | sequence;
+    }
+
+    /**
+     * Makes sure ids issued from now on are greater than {@code id} if it belongs to this shard,
+     * e.g. after replaying a journal written by a faster previous run.
+     */
+    public void advancePast(long id) {
+        if ((id & ~SEQUENCE_MASK) == shardBits) {
+            sequence = Math.max(sequence, id & SEQUENCE_MASK);
+        }
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS);
+    }
+}
@@ -0,0 +1,97 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.engine.pool.ObjectPool;
+import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.Trade;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-shard scratch state for the match loop: the reusable fill buffer and, in pooled mode, the
+ * shard's {@link Order} and {@link Trade} pools. Fills and completed orders stay valid until
+ * {@link #recycle()} is called once downstream consumers are done with the command. Books changed
+ * by the shard are collected here until {@link #publishBookViews()} at the end of the batch.
+ */
+public final class MatchContext {
+    private final IdGenerator idGenerator;
+    private final ObjectPool<Order> orderPool;
+    private final ObjectPool<Trade> tradePool;
+    private final List<Trade> fills = new ArrayList<>();
+    private final List<Order> completedOrders = new ArrayList<>();
+    private final List<OrderBook> changedBooks = new ArrayList<>();
+
+    public MatchContext(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        this.orderPool = null;
+        this.tradePool = null;
+    }
+
+    public MatchContext(IdGenerator idGenerator, int poolSize) {
+        this.idGenerator = idGenerator;
+        this.orderPool = new ObjectPool<>(Order::new, poolSize);
+        this.tradePool = new ObjectPool<>(Trade::new, poolSize);
+    }
+
+    public boolean isPooled() {
+        return orderPool != null;
+    }
+
+    public List<Trade> getFills() {
+        return fills;
+    }
+
+    void bindToCurrentThread() {
+        if (isPooled()) {
+            orderPool.bindToCurrentThread();
+            tradePool.bindToCurrentThread();
+        }
+    }
+
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    Order newOrder() {
+        return orderPool != null ? orderPool.acquire() : new Order();
+    }
+
+    Trade newTrade() {
+        return tradePool != null ? tradePool.acquire() : new Trade();
+    }
+
+    void addFill(Trade trade) {
+        fills.add(trade);
+    }
+
+    void addCompleted(Order order) {
+        completedOrders.add(order);
+    }
+
+    void bookChanged(OrderBook book) {
+        changedBooks.add(book);
+    }
+
+    /**
+     * Publishes a fresh read view of every book changed since the last call.
+     */
+    public void publishBookViews() {
+        for (int i = 0; i < changedBooks.size(); i++) {
+            changedBooks.get(i).publishView();
+        }
+        changedBooks.clear();
+    }
+
+    public void recycle() {
+        if (isPooled()) {
+            for (int i = 0; i < fills.size(); i++) {
+                tradePool.release(fills.get(i));
+            }
+            for (int i = 0; i < completedOrders.size(); i++) {
+                orderPool.release(completedOrders.get(i));
+            }
+        }
+        fills.clear();
+        completedOrders.clear();
+    }
+}
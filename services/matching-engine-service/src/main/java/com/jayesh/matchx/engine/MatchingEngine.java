@@ -1,78 +1,383 @@
 package com.jayesh.matchx.engine;
 
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.engine.audit.AuditLog;
+import com.jayesh.matchx.engine.journal.CommandJournal;
+import com.jayesh.matchx.engine.metrics.EngineMetrics;
+import com.jayesh.matchx.engine.metrics.ShardMetrics;
+import com.jayesh.matchx.engine.sequencer.InsufficientCapacityException;
+import com.jayesh.matchx.engine.sequencer.ProducerType;
+import com.jayesh.matchx.engine.sequencer.RingBuffer;
+import com.jayesh.matchx.engine.snapshot.SnapshotReader;
+import com.jayesh.matchx.engine.snapshot.SnapshotStore;
+import com.jayesh.matchx.engine.snapshot.SnapshotWriter;
 import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.model.OrderSide;
 import com.jayesh.matchx.model.Trade;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.function.ToIntFunction;
 
 @Component
 public class MatchingEngine {
     private static final Logger logger = LoggerFactory.getLogger(MatchingEngine.class);
     
     private final Map<String, OrderBook> orderBooks = new ConcurrentHashMap<>();
-    private final Map<String, ExecutorService> symbolExecutors = new ConcurrentHashMap<>();
+    private final MatchingShard[] shards;
+    private final ShardAssigner shardAssigner;
     
-    private final TradeCallback tradeCallback;
+    private final EngineProperties properties;
+    private final TradeListener tradeListener;
+    private final CancelListener cancelListener;
+    private final int defaultSnapshotDepth;
+    private final ToIntFunction<String> ladderSizes;
+    private final EngineMetrics metrics;
     
-    public MatchingEngine(TradeCallback tradeCallback) {
-        this.tradeCallback = tradeCallback;
-    }
-
-    private ExecutorService getExecutorForSymbol(String symbol) {
-        return symbolExecutors.computeIfAbsent(symbol, s -> {
-            logger.info("Creating new executor for symbol: {}", symbol);
-            return Executors.newSingleThreadExecutor(r -> {
-                Thread t = new Thread(r, "matching-engine-" + symbol);
-                t.setDaemon(true);
-                return t;
-            });
-        });
-    }
-
-    public OrderBook getOrderBook(String symbol) {
-        return orderBooks.computeIfAbsent(symbol, OrderBook::new);
-    }
-
-    public CompletableFuture<List<Trade>> submitOrder(Order order) {
-        return CompletableFuture.supplyAsync(() -> {
-            logger.info("Processing order: {} {} {} @ {} for {}",
-                order.getId(), order.getSide(), order.getQuantity(), order.getPrice(), order.getSymbol());
-            
-            OrderBook orderBook = getOrderBook(order.getSymbol());
-            List<Trade> trades = orderBook.match(order);
-            
-            if (!trades.isEmpty()) {
-                logger.info("Generated {} trades for order {}", trades.size(), order.getId());
-                for (Trade trade : trades) {
-                    tradeCallback.onTrade(trade);
+    public MatchingEngine(EngineProperties properties, TradeListener tradeListener, int defaultSnapshotDepth) {
+        this(properties, tradeListener, defaultSnapshotDepth, symbol -> properties.resolveLadderSize(null));
+    }
+
+    /**
+     * @param ladderSizes ticks per price ladder window for a symbol's book, typically
+     *                    {@link EngineProperties#resolveLadderSize} of its tick size
+     */
+    public MatchingEngine(EngineProperties properties, TradeListener tradeListener, int defaultSnapshotDepth,
+                          ToIntFunction<String> ladderSizes) {
+        this(properties, tradeListener, defaultSnapshotDepth, ladderSizes, null);
+    }
+
+    /**
+     * @param cancelListener told of every order a cancel takes off a book, or {@code null}
+     */
+    public MatchingEngine(EngineProperties properties, TradeListener tradeListener, int defaultSnapshotDepth,
+                          ToIntFunction<String> ladderSizes, CancelListener cancelListener) {
+        this.properties = properties;
+        this.tradeListener = tradeListener;
+        this.cancelListener = cancelListener;
+        this.defaultSnapshotDepth = defaultSnapshotDepth;
+        this.ladderSizes = ladderSizes;
+        this.metrics = new EngineMetrics(properties.getMetrics().isEnabled());
+        if (properties.getSnapshot().isEnabled() && !properties.getJournal().isEnabled()) {
+            throw new IllegalArgumentException("matchx.engine.snapshot requires matchx.engine.journal to be enabled");
+        }
+        this.shardAssigner = new ShardAssigner(
+            properties.resolveShardCount(),
+            properties.getSymbolShards(),
+            properties.getDedicatedSymbols()
+        );
+        if (properties.getJournal().isEnabled()) {
+            ShardLayout.verify(Path.of(properties.getJournal().getDirectory()), shardAssigner.describe());
+        }
+        this.shards = new MatchingShard[shardAssigner.getShardCount()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = createShard(i);
+        }
+        for (MatchingShard shard : shards) {
+            shard.awaitRecovery();
+        }
+        logger.info("Started {} matching shards ({} dedicated)",
+            shards.length, shards.length - properties.resolveShardCount());
+    }
+
+    private MatchingShard createShard(int index) {
+        // REST threads, gateway sessions and batch submits all publish to every shard's ring
+        RingBuffer<OrderCommand> ringBuffer = new RingBuffer<>(
+            ProducerType.MULTI,
+            OrderCommand::new,
+            properties.getRingBufferSize(),
+            properties.getWaitStrategy().create()
+        );
+        String shardKey = shardAssigner.isDedicated(index)
+            ? shardAssigner.dedicatedSymbol(index)
+            : "shard-" + index;
+        String name = "matching-engine-" + shardKey;
+        IdGenerator idGenerator = new IdGenerator(index);
+        MatchContext context = properties.isPooling()
+            ? new MatchContext(idGenerator, properties.getPoolSize())
+            : new MatchContext(idGenerator);
+        EngineProperties.Journal journalProperties = properties.getJournal();
+        CommandJournal journal = journalProperties.isEnabled()
+            ? new CommandJournal(
+                Path.of(journalProperties.getDirectory(), shardKey),
+                journalProperties.getSegmentSize(),
+                journalProperties.getSyncPolicy(),
+                journalProperties.getSyncIntervalMs())
+            : null;
+        EngineProperties.Snapshot snapshotProperties = properties.getSnapshot();
+        SnapshotStore snapshots = snapshotProperties.isEnabled()
+            ? new SnapshotStore(
+                Path.of(snapshotProperties.getDirectory(), shardKey),
+                snapshotProperties.getIntervalMs(),
+                snapshotProperties.getRetain(),
+                name + "-snapshot")
+            : null;
+        EngineProperties.Audit auditProperties = properties.getAudit();
+        AuditLog audit = auditProperties.isEnabled()
+            ? new AuditLog(
+                Path.of(auditProperties.getDirectory(), shardKey),
+                auditProperties.getBufferSize(),
+                name + "-audit")
+            : null;
+        ShardMetrics shardMetrics = metrics.register(name);
+        OutputStage output = new OutputStage(name + "-output", properties.getOutputBufferSize(), tradeListener,
+            shardMetrics);
+        MatchingShard shard = new MatchingShard(name, ringBuffer, context, journal, snapshots, output, audit,
+            shardMetrics, this::onCommand, new ShardSnapshotHandler(index));
+        shard.start();
+        return shard;
+    }
+
+    private MatchingShard getShardForSymbol(String symbol) {
+        return shards[shardAssigner.shardFor(symbol)];
+    }
+
+    /**
+     * Book of {@code symbol}, created on first use. Only new orders and snapshot restore create
+     * books; cancels and reads of a symbol without one see an empty result instead.
+     */
+    private OrderBook getOrderBook(String symbol) {
+        return orderBooks.computeIfAbsent(symbol, s -> new OrderBook(s, ladderSizes.applyAsInt(s),
+            Math.max(properties.getViewDepth(), defaultSnapshotDepth),
+            properties.getRecentOrders().getCapacity(), properties.getRecentOrders().getMaxAgeMs()));
+    }
+
+    public Collection<OrderBook> getOrderBooks() {
+        return orderBooks.values();
+    }
+
+    public EngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Queues a new order on its shard. If the shard's ring is full the returned future fails
+     * with a {@link RejectedExecutionException} instead of blocking the caller.
+     */
+    public CompletableFuture<OrderReport> submitOrder(String symbol, OrderSide side, long price, long quantity) {
+        return submitOrder(symbol, side, price, quantity, null);
+    }
+
+    /**
+     * Like {@link #submitOrder(String, OrderSide, long, long)}, additionally telling
+     * {@code listener} the order's id before the order is matched.
+     */
+    public CompletableFuture<OrderReport> submitOrder(String symbol, OrderSide side, long price, long quantity,
+                                                      OrderListener listener) {
+        CompletableFuture<OrderReport> future = new CompletableFuture<>();
+        RingBuffer<OrderCommand> ringBuffer = getShardForSymbol(symbol).getRingBuffer();
+        long sequence;
+        try {
+            sequence = ringBuffer.tryNext();
+        } catch (InsufficientCapacityException e) {
+            return CompletableFuture.failedFuture(rejected(symbol));
+        }
+        OrderCommand command = ringBuffer.get(sequence);
+        command.type = CommandType.NEW_ORDER;
+        command.symbol = symbol;
+        command.side = side;
+        command.price = price;
+        command.quantity = quantity;
+        command.listener = listener;
+        command.orderFuture = future;
+        command.enqueuedNanos = enqueueTime();
+        ringBuffer.publish(sequence);
+        return future;
+    }
+
+    public CompletableFuture<Boolean> cancelOrder(long orderId, String symbol) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        RingBuffer<OrderCommand> ringBuffer = getShardForSymbol(symbol).getRingBuffer();
+        long sequence;
+        try {
+            sequence = ringBuffer.tryNext();
+        } catch (InsufficientCapacityException e) {
+            return CompletableFuture.failedFuture(rejected(symbol));
+        }
+        OrderCommand command = ringBuffer.get(sequence);
+        command.type = CommandType.CANCEL_ORDER;
+        command.symbol = symbol;
+        command.orderId = orderId;
+        command.cancelFuture = future;
+        command.enqueuedNanos = enqueueTime();
+        ringBuffer.publish(sequence);
+        return future;
+    }
+
+    /**
+     * Submits new orders and cancels across symbols as one unit. Commands are grouped by shard
+     * and each group is claimed and published on that shard's ring in one step, so a shard wakes
+     * once per group. Commands for the same shard run in list order; the future completes once,
+     * with results in list order, after every shard has processed its share.
+     *
+     * <p>Every group is claimed before any is published and no claim blocks: if a shard's ring
+     * lacks room for its group, the slots already claimed on other shards are published as
+     * no-ops and the returned future fails with a {@link RejectedExecutionException}.
+     *
+     * @throws IllegalArgumentException if a shard's group is larger than its ring
+     */
+    public CompletableFuture<List<BatchResult>> submitBatch(List<BatchCommand> commands) {
+        if (commands.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        BatchTracker tracker = new BatchTracker(commands.size());
+        int[] shardIndexes = new int[commands.size()];
+        int[] counts = new int[shards.length];
+        for (int i = 0; i < commands.size(); i++) {
+            shardIndexes[i] = shardAssigner.shardFor(commands.get(i).symbol());
+            counts[shardIndexes[i]]++;
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            int bufferSize = shards[shard].getRingBuffer().getBufferSize();
+            if (counts[shard] > bufferSize) {
+                throw new IllegalArgumentException("Batch holds " + counts[shard] + " commands for shard "
+                    + shards[shard].getName() + ", more than its ring of " + bufferSize);
+            }
+        }
+        long[] claimed = new long[shards.length];
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (counts[shard] > 0) {
+                try {
+                    claimed[shard] = shards[shard].getRingBuffer().tryNext(counts[shard]);
+                } catch (InsufficientCapacityException e) {
+                    for (int abandoned = 0; abandoned < shard; abandoned++) {
+                        if (counts[abandoned] > 0) {
+                            publishNoOps(shards[abandoned].getRingBuffer(), claimed[abandoned], counts[abandoned]);
+                        }
+                    }
+                    return CompletableFuture.failedFuture(rejected(shards[shard].getName()));
+                }
+            }
+        }
+        long enqueuedNanos = enqueueTime();
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (counts[shard] > 0) {
+                publishGroup(shards[shard].getRingBuffer(), claimed[shard], commands, shardIndexes, shard,
+                    counts[shard], tracker, enqueuedNanos);
+            }
+        }
+        return tracker.getFuture();
+    }
+
+    private long enqueueTime() {
+        return metrics.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    private static RejectedExecutionException rejected(String target) {
+        return new RejectedExecutionException("Matching engine is at capacity for " + target);
+    }
+
+    private static void publishGroup(RingBuffer<OrderCommand> ringBuffer, long hi, List<BatchCommand> commands,
+                                     int[] shardIndexes, int shard, int count, BatchTracker tracker,
+                                     long enqueuedNanos) {
+        long lo = hi - count + 1;
+        int next = 0;
+        for (long sequence = lo; sequence <= hi; sequence++) {
+            while (shardIndexes[next] != shard) {
+                next++;
+            }
+            BatchCommand entry = commands.get(next);
+            OrderCommand command = ringBuffer.get(sequence);
+            command.type = entry.type();
+            command.symbol = entry.symbol();
+            command.side = entry.side();
+            command.price = entry.price();
+            command.quantity = entry.quantity();
+            command.orderId = entry.orderId();
+            command.batch = tracker;
+            command.batchIndex = next;
+            command.enqueuedNanos = enqueuedNanos;
+            next++;
+        }
+        ringBuffer.publish(lo, hi);
+    }
+
+    /**
+     * Releases claimed slots without effect. A multi-producer claim cannot be handed back, and
+     * an unpublished slot would stall the shard's consumer.
+     */
+    private static void publishNoOps(RingBuffer<OrderCommand> ringBuffer, long hi, int count) {
+        long lo = hi - count + 1;
+        for (long sequence = lo; sequence <= hi; sequence++) {
+            ringBuffer.get(sequence).type = CommandType.NO_OP;
+        }
+        ringBuffer.publish(lo, hi);
+    }
+
+    private void onCommand(OrderCommand command, MatchContext context) {
+        switch (command.type) {
+            case NEW_ORDER -> {
+                Order order = context.newOrder().init(
+                    command.orderId, command.symbol, command.side, command.price, command.quantity, command.timestamp);
+                command.report = processOrder(order, context, command.replayed);
+            }
+            case CANCEL_ORDER -> {
+                OrderBook orderBook = orderBooks.get(command.symbol);
+                if (orderBook != null) {
+                    cancel(orderBook, command, context);
                 }
             }
-            
-            return trades;
-        }, getExecutorForSymbol(order.getSymbol()));
+        }
+        if (command.enqueuedNanos != 0) {
+            OrderBook orderBook = orderBooks.get(command.symbol);
+            command.bookDepth = orderBook != null ? orderBook.getLevelCount() : 0;
+        }
+    }
+
+    private void cancel(OrderBook orderBook, OrderCommand command, MatchContext context) {
+        if (cancelListener == null || command.replayed) {
+            command.cancelled = orderBook.cancelOrder(command.orderId, context);
+            return;
+        }
+        OrderReport open = orderBook.getOrder(command.orderId);
+        command.cancelled = orderBook.cancelOrder(command.orderId, context);
+        if (command.cancelled) {
+            cancelListener.onCancelled(command.symbol, command.orderId, open.remainingQuantity());
+        }
     }
 
-    public CompletableFuture<Boolean> cancelOrder(String orderId, String symbol) {
-        return CompletableFuture.supplyAsync(() -> {
-            OrderBook orderBook = getOrderBook(symbol);
-            return orderBook.cancelOrder(orderId);
-        }, getExecutorForSymbol(symbol));
+    private OrderReport processOrder(Order order, MatchContext context, boolean replayed) {
+        getOrderBook(order.getSymbol()).match(order, context);
+        return replayed ? null : OrderReport.of(order);
     }
 
     public OrderBook.OrderBookSnapshot getOrderBookSnapshot(String symbol) {
+        return getOrderBookSnapshot(symbol, defaultSnapshotDepth);
+    }
+
+    public OrderBook.OrderBookSnapshot getOrderBookSnapshot(String symbol, int depth) {
         OrderBook orderBook = orderBooks.get(symbol);
         if (orderBook == null) {
-            return new OrderBook.OrderBookSnapshot(symbol, List.of(), List.of());
+            return new OrderBook.OrderBookSnapshot(symbol, 0, List.of(), List.of());
+        }
+        return orderBook.getSnapshot(depth);
+    }
+
+    public OrderBook.Ticker getTicker(String symbol) {
+        OrderBook orderBook = orderBooks.get(symbol);
+        if (orderBook == null) {
+            return new OrderBook.Ticker(symbol, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return orderBook.getTicker();
+    }
+
+    public List<OrderBook.Ticker> getTickers() {
+        List<OrderBook.Ticker> tickers = new ArrayList<>(orderBooks.size());
+        for (OrderBook orderBook : orderBooks.values()) {
+            tickers.add(orderBook.getTicker());
         }
-        return orderBook.getSnapshot();
+        return tickers;
     }
 
-    public Order getOrder(String symbol, String orderId) {
+    public OrderReport getOrder(String symbol, long orderId) {
         OrderBook orderBook = orderBooks.get(symbol);
         if (orderBook == null) {
             return null;
@@ -80,8 +385,69 @@ public class MatchingEngine {
         return orderBook.getOrder(orderId);
     }
 
+    public void shutdown() {
+        for (MatchingShard shard : shards) {
+            shard.halt();
+        }
+    }
+
+    private final class ShardSnapshotHandler implements MatchingShard.SnapshotHandler {
+        private final int shardIndex;
+
+        private ShardSnapshotHandler(int shardIndex) {
+            this.shardIndex = shardIndex;
+        }
+
+        @Override
+        public void writeSnapshot(SnapshotWriter out) {
+            List<OrderBook> books = new ArrayList<>();
+            for (OrderBook orderBook : orderBooks.values()) {
+                if (shardAssigner.shardFor(orderBook.getSymbol()) == shardIndex) {
+                    books.add(orderBook);
+                }
+            }
+            out.putInt(books.size());
+            for (OrderBook orderBook : books) {
+                out.putString(orderBook.getSymbol());
+                orderBook.writeSnapshot(out);
+            }
+        }
+
+        @Override
+        public void readSnapshot(SnapshotReader in, MatchContext context) {
+            int books = in.getInt();
+            for (int i = 0; i < books; i++) {
+                getOrderBook(in.getString()).readSnapshot(in, context);
+            }
+        }
+    }
+
+    /**
+     * Called on the matching thread once an order has its id and before it is matched, so that any
+     * fill published for it can already be attributed. Must not block.
+     */
+    @FunctionalInterface
+    public interface OrderListener {
+        void onAccepted(long orderId);
+    }
+
+    /**
+     * Called on the matching thread when a cancel takes an order off its book, with the quantity
+     * that will now never fill. Fills the order made before the cancel may still be on their way
+     * to the {@link TradeListener}. Must not block.
+     */
+    @FunctionalInterface
+    public interface CancelListener {
+        void onCancelled(String symbol, long orderId, long remainingQuantity);
+    }
+
+    /**
+     * Receives fills on a shard's publisher thread, in match order, batched by whatever
+     * accumulated since the previous call. The trades are ring slots that are reused once the call
+     * returns, so implementations must copy what they need.
+     */
     @FunctionalInterface
-    public interface TradeCallback {
-        void onTrade(Trade trade);
+    public interface TradeListener {
+        void onTrades(List<Trade> trades);
     }
 }
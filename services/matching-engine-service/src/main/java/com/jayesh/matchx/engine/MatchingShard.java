@@ -0,0 +1,350 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.engine.audit.AuditLog;
+import com.jayesh.matchx.engine.journal.CommandJournal;
+import com.jayesh.matchx.engine.journal.JournalHandler;
+import com.jayesh.matchx.engine.metrics.ShardMetrics;
+import com.jayesh.matchx.engine.sequencer.AlertException;
+import com.jayesh.matchx.engine.sequencer.RingBuffer;
+import com.jayesh.matchx.engine.sequencer.Sequence;
+import com.jayesh.matchx.engine.sequencer.SequenceBarrier;
+import com.jayesh.matchx.engine.snapshot.SnapshotReader;
+import com.jayesh.matchx.engine.snapshot.SnapshotStore;
+import com.jayesh.matchx.engine.snapshot.SnapshotWriter;
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.util.EpochClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Single matching thread draining its own command ring. Every command published since the last
+ * wakeup is matched as one batch, and the batch's futures are completed only afterwards so the
+ * matching loop itself never runs caller continuations. Fills are handed to the shard's
+ * {@link OutputStage} and published from there.
+ *
+ * <p>With a journal, every command is assigned its order id and appended before it is matched,
+ * the journal is committed once per batch, and the shard replays the journal on its own thread
+ * before it starts draining the ring. A journaled command that then fails is marked failed in the
+ * journal, so replaying it cannot fail recovery. With snapshots, the shard periodically
+ * serializes its books between batches at the current journal sequence, and recovery replays
+ * only the journal tail after the newest snapshot.
+ *
+ * <p>With an {@link AuditLog}, each live command's outcome and fills are handed to the audit
+ * writer thread after matching; replayed commands are not audited again.
+ *
+ * <p>Read views of the books a batch changed are published before the batch's futures complete,
+ * so a caller always reads its own writes.
+ */
+final class MatchingShard implements Runnable, JournalHandler {
+    private static final Logger logger = LoggerFactory.getLogger(MatchingShard.class);
+
+    private final String name;
+    private final RingBuffer<OrderCommand> ringBuffer;
+    private final SequenceBarrier barrier;
+    private final Sequence sequence;
+    private final CommandHandler handler;
+    private final MatchContext context;
+    private final CommandJournal journal;
+    private final SnapshotStore snapshots;
+    private final SnapshotHandler snapshotHandler;
+    private final OutputStage output;
+    private final AuditLog audit;
+    private final ShardMetrics metrics;
+    private final OrderCommand replayCommand = new OrderCommand();
+    private final CountDownLatch recovered = new CountDownLatch(1);
+    private final Thread thread;
+    private volatile Throwable recoveryFailure;
+    private volatile boolean running = true;
+
+    MatchingShard(String name, RingBuffer<OrderCommand> ringBuffer, MatchContext context,
+                  CommandJournal journal, SnapshotStore snapshots, OutputStage output, AuditLog audit,
+                  ShardMetrics metrics, CommandHandler handler, SnapshotHandler snapshotHandler) {
+        this.name = name;
+        this.ringBuffer = ringBuffer;
+        this.barrier = ringBuffer.newBarrier();
+        this.sequence = ringBuffer.getGatingSequence();
+        this.context = context;
+        this.journal = journal;
+        this.snapshots = snapshots;
+        this.handler = handler;
+        this.snapshotHandler = snapshotHandler;
+        this.output = output;
+        this.audit = audit;
+        this.metrics = metrics;
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    RingBuffer<OrderCommand> getRingBuffer() {
+        return ringBuffer;
+    }
+
+    void start() {
+        output.start();
+        if (audit != null) {
+            audit.start();
+        }
+        thread.start();
+    }
+
+    /**
+     * Blocks until the shard has replayed its journal.
+     */
+    void awaitRecovery() {
+        try {
+            recovered.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while recovering shard " + name, e);
+        }
+        if (recoveryFailure != null) {
+            throw new IllegalStateException("Failed to recover shard " + name, recoveryFailure);
+        }
+    }
+
+    void halt() {
+        running = false;
+        barrier.alert();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        output.halt();
+        if (audit != null) {
+            audit.halt();
+        }
+    }
+
+    @Override
+    public void run() {
+        context.bindToCurrentThread();
+        try {
+            recover();
+            context.publishBookViews();
+        } catch (Throwable t) {
+            recoveryFailure = t;
+            return;
+        } finally {
+            recovered.countDown();
+        }
+        long nextSequence = sequence.get() + 1;
+        while (true) {
+            try {
+                long availableSequence = barrier.waitFor(nextSequence);
+                if (availableSequence < nextSequence) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                for (long s = nextSequence; s <= availableSequence; s++) {
+                    process(ringBuffer.get(s));
+                }
+                if (journal != null) {
+                    journal.commit();
+                }
+                context.publishBookViews();
+                for (long s = nextSequence; s <= availableSequence; s++) {
+                    complete(ringBuffer.get(s));
+                }
+                sequence.set(availableSequence);
+                nextSequence = availableSequence + 1;
+                if (snapshots != null && snapshots.isDue(journal.getLastSequence())) {
+                    takeSnapshot();
+                }
+            } catch (AlertException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        if (snapshots != null) {
+            snapshots.close();
+        }
+        logger.info("Matching shard {} stopped", name);
+    }
+
+    private void recover() {
+        if (journal == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        long snapshotSequence = 0;
+        SnapshotReader snapshot = snapshots != null ? snapshots.loadLatest() : null;
+        if (snapshot != null) {
+            snapshotSequence = snapshot.getSequence();
+            context.getIdGenerator().advancePast(snapshot.getLong());
+            snapshotHandler.readSnapshot(snapshot, context);
+            logger.info("Shard {} loaded snapshot at sequence {} in {} ms",
+                name, snapshotSequence, (System.nanoTime() - start) / 1_000_000);
+            start = System.nanoTime();
+        }
+        long replayed = journal.replay(snapshotSequence, this);
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        if (replayed > 0) {
+            logger.info("Shard {} replayed {} commands from {} in {} ms ({} M commands/s)",
+                name, replayed, journal.getDirectory(), elapsedNanos / 1_000_000,
+                String.format("%.2f", replayed * 1_000.0 / elapsedNanos));
+        }
+    }
+
+    private void takeSnapshot() {
+        long start = System.nanoTime();
+        long journalSequence = journal.getLastSequence();
+        SnapshotWriter out = snapshots.begin();
+        out.putLong(context.getIdGenerator().lastId());
+        snapshotHandler.writeSnapshot(out);
+        snapshots.publish(journalSequence, journal::deleteSegmentsBefore);
+        logger.debug("Shard {} serialized snapshot at sequence {} in {} us",
+            name, journalSequence, (System.nanoTime() - start) / 1_000);
+    }
+
+    @Override
+    public void onNewOrder(long sequence, String symbol, long orderId, OrderSide side,
+                           long price, long quantity, long timestamp) {
+        context.getIdGenerator().advancePast(orderId);
+        replayCommand.type = CommandType.NEW_ORDER;
+        replayCommand.symbol = symbol;
+        replayCommand.orderId = orderId;
+        replayCommand.side = side;
+        replayCommand.price = price;
+        replayCommand.quantity = quantity;
+        replayCommand.timestamp = timestamp;
+        replay(replayCommand);
+    }
+
+    @Override
+    public void onCancel(long sequence, String symbol, long orderId) {
+        replayCommand.type = CommandType.CANCEL_ORDER;
+        replayCommand.symbol = symbol;
+        replayCommand.orderId = orderId;
+        replay(replayCommand);
+    }
+
+    private void replay(OrderCommand command) {
+        command.replayed = true;
+        try {
+            handler.onCommand(command, context);
+        } finally {
+            context.recycle();
+            command.clear();
+        }
+    }
+
+    private void process(OrderCommand command) {
+        if (command.type == CommandType.NO_OP) {
+            return;
+        }
+        long enqueuedNanos = command.enqueuedNanos;
+        if (enqueuedNanos != 0) {
+            metrics.recordQueueWait(System.nanoTime() - enqueuedNanos);
+        }
+        boolean journaled = false;
+        try {
+            if (command.type == CommandType.NEW_ORDER) {
+                command.orderId = context.getIdGenerator().nextId();
+                command.timestamp = EpochClock.epochNanos();
+            }
+            if (command.listener != null) {
+                command.listener.onAccepted(command.orderId);
+            }
+            if (journal != null) {
+                append(command);
+                journaled = true;
+            }
+            long matchStart = enqueuedNanos != 0 ? System.nanoTime() : 0;
+            handler.onCommand(command, context);
+            if (enqueuedNanos != 0) {
+                metrics.recordMatch(System.nanoTime() - matchStart);
+                if (command.type == CommandType.NEW_ORDER) {
+                    metrics.recordFills(context.getFills().size());
+                }
+                metrics.recordBookDepth(command.bookDepth);
+            }
+            if (!context.getFills().isEmpty()) {
+                output.publish(context.getFills());
+            }
+            if (audit != null) {
+                audit(command);
+            }
+        } catch (Throwable t) {
+            logger.error("Error processing {} on shard {}", command.type, name, t);
+            command.failure = t;
+            if (journaled) {
+                journal.markFailed();
+            }
+        } finally {
+            context.recycle();
+        }
+    }
+
+    private void audit(OrderCommand command) {
+        switch (command.type) {
+            case NEW_ORDER -> audit.logOrder(command.report);
+            case CANCEL_ORDER -> audit.logCancel(command.symbol, command.orderId, command.cancelled);
+        }
+        if (!context.getFills().isEmpty()) {
+            audit.logTrades(context.getFills());
+        }
+    }
+
+    private void append(OrderCommand command) {
+        switch (command.type) {
+            case NEW_ORDER -> journal.appendNewOrder(command.symbol, command.orderId, command.side,
+                command.price, command.quantity, command.timestamp);
+            case CANCEL_ORDER -> journal.appendCancel(command.symbol, command.orderId);
+        }
+    }
+
+    private static void complete(OrderCommand command) {
+        try {
+            if (command.batch != null) {
+                if (command.failure != null) {
+                    command.batch.fail(command.failure);
+                } else {
+                    command.batch.complete(command.batchIndex, new BatchResult(command.report, command.cancelled));
+                }
+            } else if (command.failure != null) {
+                if (command.orderFuture != null) {
+                    command.orderFuture.completeExceptionally(command.failure);
+                }
+                if (command.cancelFuture != null) {
+                    command.cancelFuture.completeExceptionally(command.failure);
+                }
+            } else if (command.type == CommandType.NEW_ORDER) {
+                command.orderFuture.complete(command.report);
+            } else if (command.type == CommandType.CANCEL_ORDER) {
+                command.cancelFuture.complete(command.cancelled);
+            }
+        } catch (Throwable t) {
+            logger.error("Error completing {}", command.type, t);
+        } finally {
+            command.clear();
+        }
+    }
+
+    @FunctionalInterface
+    interface CommandHandler {
+        void onCommand(OrderCommand command, MatchContext context);
+    }
+
+    /**
+     * Serializes and restores the books owned by one shard; both run on the shard thread.
+     */
+    interface SnapshotHandler {
+        void writeSnapshot(SnapshotWriter out);
+
+        void readSnapshot(SnapshotReader in, MatchContext context);
+    }
+}
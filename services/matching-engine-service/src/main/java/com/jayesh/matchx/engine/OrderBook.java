@@ -1,153 +1,553 @@
 package com.jayesh.matchx.engine;
 
+import com.jayesh.matchx.engine.snapshot.SnapshotReader;
+import com.jayesh.matchx.engine.snapshot.SnapshotWriter;
 import com.jayesh.matchx.model.Order;
 import com.jayesh.matchx.model.OrderBookEntry;
+import com.jayesh.matchx.model.OrderReport;
 import com.jayesh.matchx.model.OrderSide;
 import com.jayesh.matchx.model.OrderStatus;
 import com.jayesh.matchx.model.Trade;
+import com.jayesh.matchx.util.LongObjectHashMap;
 
-import java.math.BigDecimal;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * Price-time priority book of one symbol. All mutations hold the book's monitor and normally run
+ * on the owning shard's thread.
+ *
+ * <p>Readers never take the monitor. Depth is served from an immutable {@link OrderBookSnapshot}
+ * of the top {@code viewDepth} levels that the writer republishes through a volatile reference
+ * once per command batch (see {@link MatchContext#publishBookViews()}). Order lookups read the
+ * live indexes optimistically under a sequence lock: the writer makes the sequence odd for the
+ * duration of each mutation, and a reader that saw it odd or changed simply retries. A
+ * {@link Ticker} of the best bid, best ask and last trade is republished alongside the view, but
+ * only when one of those actually changed.
+ */
 public class OrderBook {
+    public static final int DEFAULT_LADDER_SIZE = 4096;
+    public static final int MIN_LADDER_SIZE = 1024;
+    public static final int MAX_LADDER_SIZE = 65536;
+    public static final int DEFAULT_VIEW_DEPTH = 100;
+    public static final int DEFAULT_RECENT_ORDERS = 100_000;
+
+    private static final VarHandle WRITE_SEQUENCE;
+
+    static {
+        try {
+            WRITE_SEQUENCE = MethodHandles.lookup().findVarHandle(OrderBook.class, "writeSequence", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final String symbol;
     
-    private final TreeMap<BigDecimal, Queue<Order>> bids = new TreeMap<>(Comparator.reverseOrder());
-    private final TreeMap<BigDecimal, Queue<Order>> asks = new TreeMap<>();
+    private final PriceLadder bids;
+    private final PriceLadder asks;
     
-    private final Map<String, Order> ordersById = new ConcurrentHashMap<>();
+    private final LongObjectHashMap<Order> ordersById = new LongObjectHashMap<>();
+    private final RecentOrders recentOrders;
+    private final int viewDepth;
+    private MatchContext defaultContext;
+    private long tradeSequence;
+    private long lastTradePrice;
+    private long lastTradeQuantity;
+    private long version;
+    private long writeSequence;
+    private boolean viewStale;
+    private volatile OrderBookSnapshot view;
+    private volatile Ticker ticker;
 
     public OrderBook(String symbol) {
+        this(symbol, DEFAULT_LADDER_SIZE);
+    }
+
+    public OrderBook(String symbol, int ladderSize) {
+        this(symbol, ladderSize, DEFAULT_VIEW_DEPTH, DEFAULT_RECENT_ORDERS, 0);
+    }
+
+    /**
+     * @param viewDepth                how many levels per side the published view holds
+     * @param recentOrders             how many completed orders {@link #getOrder} still finds
+     * @param recentOrdersMaxAgeMillis how long completed orders stay findable, or 0 for no limit
+     */
+    public OrderBook(String symbol, int ladderSize, int viewDepth, int recentOrders, long recentOrdersMaxAgeMillis) {
         this.symbol = symbol;
+        this.bids = new PriceLadder(true, ladderSize);
+        this.asks = new PriceLadder(false, ladderSize);
+        this.viewDepth = Math.max(1, viewDepth);
+        this.recentOrders = new RecentOrders(recentOrders, recentOrdersMaxAgeMillis);
+        this.view = new OrderBookSnapshot(symbol, 0, List.of(), List.of());
+        this.ticker = new Ticker(symbol, 0, 0, 0, 0, 0, 0, 0, 0);
     }
 
     public String getSymbol() {
         return symbol;
     }
 
+    /**
+     * Version of the most recently published view. The book's version is incremented whenever
+     * the resting orders change, so readers can tell whether the book moved since they last
+     * looked without taking a snapshot.
+     */
+    public long getVersion() {
+        return view.sequence();
+    }
+
+    /**
+     * Number of price levels on both sides.
+     */
+    public synchronized int getLevelCount() {
+        return bids.levelCount() + asks.levelCount();
+    }
+
     public synchronized void addOrder(Order order) {
+        beginWrite();
+        try {
+            rest(order);
+        } finally {
+            version++;
+            endWrite();
+        }
+        viewStale = true;
+        publishView();
+    }
+
+    private void rest(Order order) {
         ordersById.put(order.getId(), order);
         
-        TreeMap<BigDecimal, Queue<Order>> book = order.getSide() == OrderSide.BUY ? bids : asks;
-        Map<BigDecimal, Queue<Order>> otherSide = order.getSide() == OrderSide.BUY ? asks : bids;
-        
-        book.computeIfAbsent(order.getPrice(), k -> new ConcurrentLinkedQueue<>()).add(order);
+        PriceLadder book = order.getSide() == OrderSide.BUY ? bids : asks;
+
+        book.getOrCreate(order.getPrice()).add(order);
     }
 
     public synchronized List<Trade> match(Order incomingOrder) {
-        List<Trade> trades = new ArrayList<>();
-        
-        TreeMap<BigDecimal, Queue<Order>> oppositeSide = incomingOrder.getSide() == OrderSide.BUY ? asks : bids;
+        MatchContext context = defaultContext();
+        match(incomingOrder, context);
+        List<Trade> trades = new ArrayList<>(context.getFills());
+        context.publishBookViews();
+        context.recycle();
+        return trades;
+    }
+
+    /**
+     * Matches {@code incomingOrder} and rests any remainder. Fills are appended to the context's
+     * fill buffer and orders that reach a terminal state are handed to it for recycling.
+     */
+    public synchronized void match(Order incomingOrder, MatchContext context) {
+        beginWrite();
+        try {
+            PriceLadder oppositeSide = incomingOrder.getSide() == OrderSide.BUY ? asks : bids;
         
-        while (incomingOrder.isOpen() && !oppositeSide.isEmpty()) {
-            BigDecimal bestPrice = incomingOrder.getSide() == OrderSide.BUY 
-                ? oppositeSide.firstKey() 
-                : oppositeSide.lastKey();
+            while (incomingOrder.isOpen() && !oppositeSide.isEmpty()) {
+                PriceLevel priceLevel = oppositeSide.best();
+                long bestPrice = priceLevel.getPrice();
             
-            boolean canMatch = incomingOrder.getSide() == OrderSide.BUY 
-                ? incomingOrder.getPrice().compareTo(bestPrice) >= 0
-                : incomingOrder.getPrice().compareTo(bestPrice) <= 0;
+                boolean canMatch = incomingOrder.getSide() == OrderSide.BUY 
+                    ? incomingOrder.getPrice() >= bestPrice
+                    : incomingOrder.getPrice() <= bestPrice;
             
-            if (!canMatch) {
-                break;
-            }
+                if (!canMatch) {
+                    break;
+                }
             
-            Queue<Order> priceLevel = oppositeSide.get(bestPrice);
-            if (priceLevel == null || priceLevel.isEmpty()) {
-                oppositeSide.remove(bestPrice);
-                continue;
-            }
+                Order restingOrder = priceLevel.peek();
             
-            Order restingOrder = priceLevel.peek();
-            if (restingOrder == null || !restingOrder.isOpen()) {
-                priceLevel.poll();
-                continue;
-            }
-            
-            BigDecimal tradeQuantity = incomingOrder.getRemainingQuantity().min(restingOrder.getRemainingQuantity());
+                long tradeQuantity = Math.min(incomingOrder.getRemainingQuantity(), restingOrder.getRemainingQuantity());
             
-            String buyOrderId = incomingOrder.getSide() == OrderSide.BUY ? incomingOrder.getId() : restingOrder.getId();
-            String sellOrderId = incomingOrder.getSide() == OrderSide.SELL ? incomingOrder.getId() : restingOrder.getId();
+                long buyOrderId = incomingOrder.getSide() == OrderSide.BUY ? incomingOrder.getId() : restingOrder.getId();
+                long sellOrderId = incomingOrder.getSide() == OrderSide.SELL ? incomingOrder.getId() : restingOrder.getId();
             
-            Trade trade = new Trade(symbol, bestPrice, tradeQuantity, buyOrderId, sellOrderId);
-            trades.add(trade);
+                context.addFill(context.newTrade().init(context.getIdGenerator().nextId(), symbol, ++tradeSequence,
+                    bestPrice, tradeQuantity, buyOrderId, sellOrderId, incomingOrder.getSide()));
+                lastTradePrice = bestPrice;
+                lastTradeQuantity = tradeQuantity;
             
-            incomingOrder.setRemainingQuantity(incomingOrder.getRemainingQuantity().subtract(tradeQuantity));
-            restingOrder.setRemainingQuantity(restingOrder.getRemainingQuantity().subtract(tradeQuantity));
+                incomingOrder.setRemainingQuantity(incomingOrder.getRemainingQuantity() - tradeQuantity);
+                restingOrder.setRemainingQuantity(restingOrder.getRemainingQuantity() - tradeQuantity);
+                priceLevel.fill(tradeQuantity);
             
-            if (restingOrder.isFullyFilled()) {
-                restingOrder.setStatus(OrderStatus.FILLED);
-                priceLevel.poll();
-            } else {
-                restingOrder.setStatus(OrderStatus.PARTIALLY_FILLED);
-            }
+                if (restingOrder.isFullyFilled()) {
+                    restingOrder.setStatus(OrderStatus.FILLED);
+                    priceLevel.poll();
+                    if (priceLevel.isEmpty()) {
+                        oppositeSide.remove(priceLevel);
+                    }
+                    ordersById.remove(restingOrder.getId());
+                    complete(restingOrder, context);
+                } else {
+                    restingOrder.setStatus(OrderStatus.PARTIALLY_FILLED);
+                }
             
-            if (incomingOrder.isFullyFilled()) {
-                incomingOrder.setStatus(OrderStatus.FILLED);
-            } else if (incomingOrder.getStatus() == OrderStatus.OPEN) {
-                incomingOrder.setStatus(OrderStatus.PARTIALLY_FILLED);
+                if (incomingOrder.isFullyFilled()) {
+                    incomingOrder.setStatus(OrderStatus.FILLED);
+                } else if (incomingOrder.getStatus() == OrderStatus.OPEN) {
+                    incomingOrder.setStatus(OrderStatus.PARTIALLY_FILLED);
+                }
             }
-        }
         
-        if (incomingOrder.isOpen()) {
-            addOrder(incomingOrder);
+            if (incomingOrder.isOpen()) {
+                rest(incomingOrder);
+            } else {
+                complete(incomingOrder, context);
+            }
+        } finally {
+            version++;
+            endWrite();
         }
-        
-        return trades;
+        changed(context);
     }
 
-    public synchronized boolean cancelOrder(String orderId) {
+    public synchronized boolean cancelOrder(long orderId) {
+        MatchContext context = defaultContext();
+        boolean cancelled = cancelOrder(orderId, context);
+        context.publishBookViews();
+        context.recycle();
+        return cancelled;
+    }
+
+    public synchronized boolean cancelOrder(long orderId, MatchContext context) {
         Order order = ordersById.get(orderId);
         if (order == null || !order.isOpen()) {
             return false;
         }
         
-        order.setStatus(OrderStatus.CANCELLED);
-        
-        TreeMap<BigDecimal, Queue<Order>> book = order.getSide() == OrderSide.BUY ? bids : asks;
-        Queue<Order> priceLevel = book.get(order.getPrice());
-        if (priceLevel != null) {
-            priceLevel.remove(order);
-            if (priceLevel.isEmpty()) {
-                book.remove(order.getPrice());
+        beginWrite();
+        try {
+            order.setStatus(OrderStatus.CANCELLED);
+
+            PriceLadder book = order.getSide() == OrderSide.BUY ? bids : asks;
+            PriceLevel priceLevel = book.get(order.getPrice());
+            if (priceLevel != null) {
+                priceLevel.remove(order);
+                if (priceLevel.isEmpty()) {
+                    book.remove(priceLevel);
+                }
             }
+            ordersById.remove(orderId);
+            complete(order, context);
+        } finally {
+            version++;
+            endWrite();
         }
+        changed(context);
         
         return true;
     }
 
-    public synchronized Order getOrder(String orderId) {
-        return ordersById.get(orderId);
+    /**
+     * Looks the order up without taking the book's monitor, retrying while the writer is
+     * mid-mutation. A torn read can only fail or return garbage when the sequence moved, so both
+     * are discarded the same way.
+     */
+    public OrderReport getOrder(long orderId) {
+        for (int attempt = 0; ; attempt++) {
+            long sequence = (long) WRITE_SEQUENCE.getAcquire(this);
+            if ((sequence & 1) == 0) {
+                OrderReport report;
+                RuntimeException failure = null;
+                try {
+                    report = findOrder(orderId);
+                } catch (RuntimeException e) {
+                    report = null;
+                    failure = e;
+                }
+                VarHandle.loadLoadFence();
+                if ((long) WRITE_SEQUENCE.getOpaque(this) == sequence) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return report;
+                }
+            }
+            if (attempt < 64) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
     }
 
-    public synchronized OrderBookSnapshot getSnapshot() {
-        List<OrderBookEntry> bidEntries = new ArrayList<>();
-        List<OrderBookEntry> askEntries = new ArrayList<>();
-        
-        for (Map.Entry<BigDecimal, Queue<Order>> entry : bids.entrySet()) {
-            BigDecimal totalQty = entry.getValue().stream()
-                .filter(Order::isOpen)
-                .map(Order::getRemainingQuantity)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            if (totalQty.compareTo(BigDecimal.ZERO) > 0) {
-                bidEntries.add(new OrderBookEntry(entry.getKey(), totalQty));
+    private OrderReport findOrder(long orderId) {
+        Order order = ordersById.get(orderId);
+        if (order != null) {
+            return OrderReport.of(order);
+        }
+        return recentOrders.get(orderId);
+    }
+
+    /**
+     * Makes the write sequence odd for the duration of a mutation. Every write section ends in a
+     * {@code finally} calling {@link #endWrite}, so a mutation that throws cannot leave readers
+     * spinning on an odd sequence or flip the parity of every later write.
+     */
+    private void beginWrite() {
+        WRITE_SEQUENCE.setOpaque(this, writeSequence + 1);
+        VarHandle.storeStoreFence();
+    }
+
+    private void endWrite() {
+        WRITE_SEQUENCE.setRelease(this, writeSequence + 1);
+    }
+
+    private void changed(MatchContext context) {
+        if (!viewStale) {
+            viewStale = true;
+            context.bookChanged(this);
+        }
+    }
+
+    /**
+     * Replaces the published view with the current top {@code viewDepth} levels if the book
+     * changed since the last one. Called by the writer after each batch.
+     */
+    public synchronized void publishView() {
+        if (!viewStale) {
+            return;
+        }
+        viewStale = false;
+        OrderBookSnapshot current = collectSnapshot(viewDepth);
+        view = current;
+        OrderBookEntry bid = current.bids().isEmpty() ? null : current.bids().get(0);
+        OrderBookEntry ask = current.asks().isEmpty() ? null : current.asks().get(0);
+        long bidPrice = bid != null ? bid.getPrice() : 0;
+        long bidQuantity = bid != null ? bid.getQuantity() : 0;
+        long askPrice = ask != null ? ask.getPrice() : 0;
+        long askQuantity = ask != null ? ask.getQuantity() : 0;
+        Ticker previous = ticker;
+        if (previous.tradeSequence() != tradeSequence
+                || previous.bidPrice() != bidPrice || previous.bidQuantity() != bidQuantity
+                || previous.askPrice() != askPrice || previous.askQuantity() != askQuantity) {
+            ticker = new Ticker(symbol, current.sequence(), bidPrice, bidQuantity, askPrice, askQuantity,
+                lastTradePrice, lastTradeQuantity, tradeSequence);
+        }
+    }
+
+    /**
+     * Best bid, best ask and last trade as of the last published view. The same instance is
+     * returned until one of them changes.
+     */
+    public Ticker getTicker() {
+        return ticker;
+    }
+
+    /**
+     * Serializes the trade sequence and resting orders level by level in priority order, followed
+     * by the reports of recently completed orders, oldest first. Level aggregates are written so
+     * {@link #readSnapshot} can verify them.
+     */
+    public synchronized void writeSnapshot(SnapshotWriter out) {
+        out.putLong(tradeSequence);
+        writeSide(bids, out);
+        writeSide(asks, out);
+        out.putInt(recentOrders.size());
+        recentOrders.forEach(report -> {
+            out.putLong(report.id());
+            out.putByte((byte) report.side().ordinal());
+            out.putLong(report.price());
+            out.putLong(report.quantity());
+            out.putLong(report.remainingQuantity());
+            out.putByte((byte) report.status().ordinal());
+            out.putLong(report.timestamp());
+        });
+    }
+
+    /**
+     * Restores state written by {@link #writeSnapshot} into this empty book.
+     */
+    public synchronized void readSnapshot(SnapshotReader in, MatchContext context) {
+        beginWrite();
+        try {
+            tradeSequence = in.getLong();
+            readSide(OrderSide.BUY, in, context);
+            readSide(OrderSide.SELL, in, context);
+            OrderSide[] sides = OrderSide.values();
+            OrderStatus[] statuses = OrderStatus.values();
+            int completed = in.getInt();
+            for (int i = 0; i < completed; i++) {
+                long id = in.getLong();
+                OrderSide side = sides[in.getByte()];
+                long price = in.getLong();
+                long quantity = in.getLong();
+                long remainingQuantity = in.getLong();
+                OrderStatus status = statuses[in.getByte()];
+                long timestamp = in.getLong();
+                recentOrders.add(new OrderReport(id, symbol, side, price, quantity, remainingQuantity, status, timestamp));
             }
+        } finally {
+            version++;
+            endWrite();
         }
-        
-        for (Map.Entry<BigDecimal, Queue<Order>> entry : asks.entrySet()) {
-            BigDecimal totalQty = entry.getValue().stream()
-                .filter(Order::isOpen)
-                .map(Order::getRemainingQuantity)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            if (totalQty.compareTo(BigDecimal.ZERO) > 0) {
-                askEntries.add(new OrderBookEntry(entry.getKey(), totalQty));
+        changed(context);
+    }
+
+    private static void writeSide(PriceLadder book, SnapshotWriter out) {
+        int countPosition = out.position();
+        out.putInt(0);
+        int[] levels = new int[1];
+        book.forEachLevel(level -> {
+            out.putLong(level.getPrice());
+            out.putLong(level.getTotalQuantity());
+            out.putInt(level.getOrderCount());
+            for (Order order = level.peek(); order != null; order = order.getNext()) {
+                out.putLong(order.getId());
+                out.putLong(order.getQuantity());
+                out.putLong(order.getRemainingQuantity());
+                out.putLong(order.getTimestamp());
+            }
+            levels[0]++;
+            return true;
+        });
+        out.putInt(countPosition, levels[0]);
+    }
+
+    private void readSide(OrderSide side, SnapshotReader in, MatchContext context) {
+        PriceLadder book = side == OrderSide.BUY ? bids : asks;
+        int levels = in.getInt();
+        for (int i = 0; i < levels; i++) {
+            long price = in.getLong();
+            long totalQuantity = in.getLong();
+            int orderCount = in.getInt();
+            for (int j = 0; j < orderCount; j++) {
+                long id = in.getLong();
+                long quantity = in.getLong();
+                long remainingQuantity = in.getLong();
+                long timestamp = in.getLong();
+                Order order = context.newOrder().init(id, symbol, side, price, quantity, timestamp);
+                order.setRemainingQuantity(remainingQuantity);
+                if (order.getRemainingQuantity() < order.getQuantity()) {
+                    order.setStatus(OrderStatus.PARTIALLY_FILLED);
+                }
+                rest(order);
+            }
+            PriceLevel level = book.get(price);
+            if (level == null || level.getTotalQuantity() != totalQuantity || level.getOrderCount() != orderCount) {
+                throw new IllegalStateException("Snapshot level " + price + " of " + symbol + " does not match its orders");
             }
         }
+    }
+
+    private MatchContext defaultContext() {
+        if (defaultContext == null) {
+            defaultContext = new MatchContext(new IdGenerator(0));
+        }
+        return defaultContext;
+    }
+
+    private void complete(Order order, MatchContext context) {
+        recentOrders.add(OrderReport.of(order));
+        context.addCompleted(order);
+    }
+
+    /**
+     * Top {@code depth} levels as of the last published view. Only a request deeper than the view
+     * on a book that has more levels than the view holds falls back to the book's monitor.
+     */
+    public OrderBookSnapshot getSnapshot(int depth) {
+        OrderBookSnapshot current = view;
+        if (depth <= viewDepth || (current.bids().size() < viewDepth && current.asks().size() < viewDepth)) {
+            return current.top(depth);
+        }
+        synchronized (this) {
+            return collectSnapshot(depth);
+        }
+    }
+
+    private OrderBookSnapshot collectSnapshot(int depth) {
+        List<OrderBookEntry> bidEntries = new ArrayList<>(Math.min(depth, 64));
+        List<OrderBookEntry> askEntries = new ArrayList<>(Math.min(depth, 64));
+        
+        collectLevels(bids, bidEntries, depth);
+        collectLevels(asks, askEntries, depth);
         
-        return new OrderBookSnapshot(symbol, bidEntries, askEntries);
+        return new OrderBookSnapshot(symbol, version,
+            Collections.unmodifiableList(bidEntries), Collections.unmodifiableList(askEntries));
+    }
+
+    private static void collectLevels(PriceLadder book, List<OrderBookEntry> entries, int depth) {
+        if (depth <= 0) {
+            return;
+        }
+        book.forEachLevel(level -> {
+            entries.add(new OrderBookEntry(level.getPrice(), level.getTotalQuantity(), level.getOrderCount()));
+            return entries.size() < depth;
+        });
     }
 
-    public record OrderBookSnapshot(String symbol, List<OrderBookEntry> bids, List<OrderBookEntry> asks) {}
+    /**
+     * Top levels of the book as of {@code sequence}, the book's version when it was taken.
+     */
+    public record OrderBookSnapshot(String symbol, long sequence, List<OrderBookEntry> bids, List<OrderBookEntry> asks) {
+
+        /**
+         * This snapshot cut down to at most {@code depth} levels per side.
+         */
+        public OrderBookSnapshot top(int depth) {
+            int limit = Math.max(0, depth);
+            if (bids.size() <= limit && asks.size() <= limit) {
+                return this;
+            }
+            return new OrderBookSnapshot(symbol, sequence,
+                bids.subList(0, Math.min(limit, bids.size())), asks.subList(0, Math.min(limit, asks.size())));
+        }
+
+        /**
+         * Levels that differ between {@code previous} and this snapshot, carrying their new
+         * aggregates; a level that disappeared is reported with zero quantity and orders.
+         */
+        public OrderBookDelta deltaFrom(OrderBookSnapshot previous) {
+            return new OrderBookDelta(symbol, previous.sequence, sequence,
+                changedLevels(previous.bids, bids, true),
+                changedLevels(previous.asks, asks, false));
+        }
+
+        private static List<OrderBookEntry> changedLevels(List<OrderBookEntry> previous, List<OrderBookEntry> current,
+                                                          boolean descending) {
+            List<OrderBookEntry> changed = new ArrayList<>();
+            int i = 0;
+            int j = 0;
+            while (i < previous.size() || j < current.size()) {
+                int order;
+                if (j == current.size()) {
+                    order = -1;
+                } else if (i == previous.size()) {
+                    order = 1;
+                } else {
+                    order = Long.compare(previous.get(i).getPrice(), current.get(j).getPrice());
+                    if (descending) {
+                        order = -order;
+                    }
+                }
+                if (order < 0) {
+                    changed.add(new OrderBookEntry(previous.get(i++).getPrice(), 0, 0));
+                } else if (order > 0) {
+                    changed.add(current.get(j++));
+                } else {
+                    OrderBookEntry before = previous.get(i++);
+                    OrderBookEntry after = current.get(j++);
+                    if (before.getQuantity() != after.getQuantity() || before.getOrderCount() != after.getOrderCount()) {
+                        changed.add(after);
+                    }
+                }
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Top of book and last trade of {@code symbol} as of the book's version {@code sequence}. An
+     * empty side has zero price and quantity, and so does the last trade before the first fill
+     * since the book was loaded; {@code tradeSequence} numbers the last trade.
+     */
+    public record Ticker(String symbol, long sequence, long bidPrice, long bidQuantity, long askPrice, long askQuantity,
+                         long lastPrice, long lastQuantity, long tradeSequence) {}
+
+    /**
+     * Changes that turn the snapshot at {@code previousSequence} into the one at {@code sequence}.
+     */
+    public record OrderBookDelta(String symbol, long previousSequence, long sequence,
+                                 List<OrderBookEntry> bids, List<OrderBookEntry> asks) {}
 }
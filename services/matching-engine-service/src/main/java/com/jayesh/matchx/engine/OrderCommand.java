@@ -0,0 +1,54 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.model.OrderSide;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Mutable ring buffer slot. Producers fill it in place; the matching shard writes the result back
+ * into the same slot and completes the future once the whole batch has been matched.
+ */
+final class OrderCommand {
+    CommandType type;
+    String symbol;
+    OrderSide side;
+    long price;
+    long quantity;
+    long orderId;
+    long timestamp;
+    boolean replayed;
+    long enqueuedNanos;
+
+    MatchingEngine.OrderListener listener;
+    CompletableFuture<OrderReport> orderFuture;
+    CompletableFuture<Boolean> cancelFuture;
+    BatchTracker batch;
+    int batchIndex;
+
+    OrderReport report;
+    boolean cancelled;
+    int bookDepth;
+    Throwable failure;
+
+    void clear() {
+        type = null;
+        symbol = null;
+        side = null;
+        price = 0;
+        quantity = 0;
+        orderId = 0;
+        timestamp = 0;
+        replayed = false;
+        enqueuedNanos = 0;
+        listener = null;
+        orderFuture = null;
+        cancelFuture = null;
+        batch = null;
+        batchIndex = 0;
+        report = null;
+        cancelled = false;
+        bookDepth = 0;
+        failure = null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.engine.metrics.ShardMetrics;
+import com.jayesh.matchx.engine.sequencer.AlertException;
+import com.jayesh.matchx.engine.sequencer.BlockingWaitStrategy;
+import com.jayesh.matchx.engine.sequencer.ProducerType;
+import com.jayesh.matchx.engine.sequencer.RingBuffer;
+import com.jayesh.matchx.engine.sequencer.Sequence;
+import com.jayesh.matchx.engine.sequencer.SequenceBarrier;
+import com.jayesh.matchx.model.Trade;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Post-trade stage of one shard. The matching thread copies each command's fills into a
+ * preallocated ring of {@link Trade} slots; a publisher thread drains whatever has accumulated
+ * and hands it to the {@link MatchingEngine.TradeListener} as one batch, so Kafka, market data
+ * and WebSocket work never runs on the matching thread. Matching only waits if the ring is full.
+ */
+final class OutputStage implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(OutputStage.class);
+
+    private final String name;
+    private final RingBuffer<Trade> ringBuffer;
+    private final SequenceBarrier barrier;
+    private final Sequence sequence;
+    private final MatchingEngine.TradeListener listener;
+    private final ShardMetrics metrics;
+    private final List<Trade> batch = new ArrayList<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private long lastPublished = -1;
+
+    OutputStage(String name, int bufferSize, MatchingEngine.TradeListener listener, ShardMetrics metrics) {
+        this.name = name;
+        this.ringBuffer = new RingBuffer<>(ProducerType.SINGLE, Trade::new, bufferSize, new BlockingWaitStrategy());
+        this.barrier = ringBuffer.newBarrier();
+        this.sequence = ringBuffer.getGatingSequence();
+        this.listener = listener;
+        this.metrics = metrics;
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Copies {@code fills} into the ring. Called only from the owning matching thread.
+     */
+    void publish(List<Trade> fills) {
+        int index = 0;
+        int remaining = fills.size();
+        while (remaining > 0) {
+            int claim = Math.min(remaining, ringBuffer.getBufferSize());
+            long hi = ringBuffer.next(claim);
+            long lo = hi - claim + 1;
+            for (long s = lo; s <= hi; s++) {
+                ringBuffer.get(s).copyFrom(fills.get(index++));
+            }
+            ringBuffer.publish(lo, hi);
+            lastPublished = hi;
+            remaining -= claim;
+        }
+    }
+
+    /**
+     * Waits briefly for published trades to drain, then stops the publisher thread. Must be
+     * called after the matching thread has stopped publishing.
+     */
+    void halt() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sequence.get() < lastPublished && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        running = false;
+        barrier.alert();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        long nextSequence = sequence.get() + 1;
+        while (true) {
+            try {
+                long availableSequence = barrier.waitFor(nextSequence);
+                if (availableSequence < nextSequence) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                for (long s = nextSequence; s <= availableSequence; s++) {
+                    batch.add(ringBuffer.get(s));
+                }
+                long start = metrics.isEnabled() ? System.nanoTime() : 0;
+                try {
+                    listener.onTrades(batch);
+                    if (start != 0) {
+                        metrics.recordPublish(System.nanoTime() - start);
+                    }
+                } catch (Throwable t) {
+                    logger.error("Error publishing {} trades on {}", batch.size(), name, t);
+                } finally {
+                    batch.clear();
+                }
+                sequence.set(availableSequence);
+                nextSequence = availableSequence + 1;
+            } catch (AlertException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        logger.info("Output stage {} stopped", name);
+    }
+}
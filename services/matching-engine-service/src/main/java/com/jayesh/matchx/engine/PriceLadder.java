@@ -0,0 +1,320 @@
+package com.jayesh.matchx.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One side of an order book. Levels within {@code capacity} ticks of a reference price live in a
+ * flat array indexed by tick offset; prices outside that window fall back to a sorted map. The
+ * window follows the best price: once the best level comes within a margin of the window's inner
+ * edge, or drifts more than half a window away from it, the window is re-centred around the best
+ * price and resident levels migrate between the array and the map. A two-level occupancy bitmap
+ * finds the next level after the best one is removed without scanning empty slots.
+ */
+final class PriceLadder {
+    private static final int NONE = -1;
+
+    private final boolean descending;
+    private final PriceLevel[] levels;
+    private final long[] occupied;
+    private final long[] occupiedWords;
+    private final int margin;
+    private final TreeMap<Long, PriceLevel> sparse;
+    private final ArrayDeque<PriceLevel> freeLevels = new ArrayDeque<>();
+    private final List<PriceLevel> migrating = new ArrayList<>();
+
+    private long basePrice;
+    private boolean anchored;
+    private int arrayLevelCount;
+    private int bestIndex = NONE;
+    private PriceLevel best;
+
+    PriceLadder(boolean descending, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ladder capacity must be positive");
+        }
+        this.descending = descending;
+        this.levels = new PriceLevel[capacity];
+        this.occupied = new long[(capacity + 63) >>> 6];
+        this.occupiedWords = new long[(occupied.length + 63) >>> 6];
+        this.margin = Math.max(1, capacity / 16);
+        this.sparse = new TreeMap<>(descending ? Comparator.<Long>reverseOrder() : Comparator.<Long>naturalOrder());
+    }
+
+    boolean isEmpty() {
+        return best == null;
+    }
+
+    PriceLevel best() {
+        return best;
+    }
+
+    int levelCount() {
+        return arrayLevelCount + sparse.size();
+    }
+
+    PriceLevel get(long price) {
+        int index = indexOf(price);
+        return index != NONE ? levels[index] : sparse.get(price);
+    }
+
+    PriceLevel getOrCreate(long price) {
+        if (!anchored) {
+            recenter(price);
+        }
+        int index = indexOf(price);
+        PriceLevel level;
+        if (index != NONE) {
+            level = levels[index];
+            if (level != null) {
+                return level;
+            }
+            level = newLevel(price);
+            put(index, level);
+        } else {
+            level = sparse.get(price);
+            if (level != null) {
+                return level;
+            }
+            level = newLevel(price);
+            sparse.put(price, level);
+        }
+        if (best == null || isBetter(price, best.getPrice())) {
+            best = level;
+            followBest();
+        }
+        return level;
+    }
+
+    void remove(PriceLevel level) {
+        long price = level.getPrice();
+        int index = indexOf(price);
+        if (index != NONE && levels[index] == level) {
+            levels[index] = null;
+            clearOccupied(index);
+            arrayLevelCount--;
+            if (index == bestIndex) {
+                bestIndex = nextIndex(index);
+            }
+        } else {
+            sparse.remove(price);
+        }
+        if (level == best) {
+            best = computeBest();
+            followBest();
+        }
+        level.reset(0);
+        freeLevels.push(level);
+    }
+
+    /**
+     * Visits levels from best to worst until the visitor returns false.
+     */
+    void forEachLevel(LevelVisitor visitor) {
+        long windowBest = descending ? basePrice + levels.length - 1 : basePrice;
+        Map<Long, PriceLevel> outside = sparse.headMap(windowBest);
+        for (PriceLevel level : outside.values()) {
+            if (!visitor.visit(level)) {
+                return;
+            }
+        }
+        for (int index = bestIndex; index != NONE; index = nextIndex(index)) {
+            if (!visitor.visit(levels[index])) {
+                return;
+            }
+        }
+        for (PriceLevel level : sparse.tailMap(windowBest, false).values()) {
+            if (!visitor.visit(level)) {
+                return;
+            }
+        }
+    }
+
+    private PriceLevel computeBest() {
+        PriceLevel arrayBest = bestIndex != NONE ? levels[bestIndex] : null;
+        if (sparse.isEmpty()) {
+            return arrayBest;
+        }
+        PriceLevel sparseBest = sparse.get(sparse.firstKey());
+        if (arrayBest == null || isBetter(sparseBest.getPrice(), arrayBest.getPrice())) {
+            return sparseBest;
+        }
+        return arrayBest;
+    }
+
+    /**
+     * Re-centres the window if the best price sits too close to the window's inner edge or too
+     * deep inside it. Ticks inside the inner edge are the room the best price has to improve;
+     * the rest of the window holds the levels behind it.
+     */
+    private void followBest() {
+        if (best == null) {
+            return;
+        }
+        long distance = descending
+            ? basePrice + levels.length - 1 - best.getPrice()
+            : best.getPrice() - basePrice;
+        if ((distance < margin || distance > levels.length / 2) && baseFor(best.getPrice()) != basePrice) {
+            recenter(best.getPrice());
+        }
+    }
+
+    private long baseFor(long price) {
+        long headroom = levels.length / 4;
+        return Math.max(0, descending ? price - (levels.length - 1 - headroom) : price - headroom);
+    }
+
+    private void recenter(long price) {
+        long newBase = baseFor(price);
+        long newEnd = newBase + levels.length;
+        for (int index = firstIndex(); index != NONE; index = nextIndex(index)) {
+            migrating.add(levels[index]);
+            levels[index] = null;
+        }
+        Arrays.fill(occupied, 0);
+        Arrays.fill(occupiedWords, 0);
+        arrayLevelCount = 0;
+        bestIndex = NONE;
+        basePrice = newBase;
+        anchored = true;
+        for (int i = 0; i < migrating.size(); i++) {
+            PriceLevel level = migrating.get(i);
+            if (level.getPrice() >= newBase && level.getPrice() < newEnd) {
+                put((int) (level.getPrice() - newBase), level);
+            } else {
+                sparse.put(level.getPrice(), level);
+            }
+        }
+        migrating.clear();
+        Map<Long, PriceLevel> inWindow = descending
+            ? sparse.subMap(newEnd - 1, true, newBase, true)
+            : sparse.subMap(newBase, true, newEnd - 1, true);
+        var iterator = inWindow.values().iterator();
+        while (iterator.hasNext()) {
+            PriceLevel level = iterator.next();
+            put((int) (level.getPrice() - newBase), level);
+            iterator.remove();
+        }
+    }
+
+    private void put(int index, PriceLevel level) {
+        levels[index] = level;
+        setOccupied(index);
+        arrayLevelCount++;
+        if (bestIndex == NONE || isBetter(index, bestIndex)) {
+            bestIndex = index;
+        }
+    }
+
+    private void setOccupied(int index) {
+        int word = index >>> 6;
+        occupied[word] |= 1L << index;
+        occupiedWords[word >>> 6] |= 1L << word;
+    }
+
+    private void clearOccupied(int index) {
+        int word = index >>> 6;
+        occupied[word] &= ~(1L << index);
+        if (occupied[word] == 0) {
+            occupiedWords[word >>> 6] &= ~(1L << word);
+        }
+    }
+
+    private int firstIndex() {
+        return descending ? previousSetBit(levels.length - 1) : nextSetBit(0);
+    }
+
+    private int nextIndex(int from) {
+        return descending ? previousSetBit(from - 1) : nextSetBit(from + 1);
+    }
+
+    private int nextSetBit(int from) {
+        if (from >= levels.length) {
+            return NONE;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L << from);
+        if (bits == 0) {
+            word = nextSetWord(word + 1);
+            if (word == NONE) {
+                return NONE;
+            }
+            bits = occupied[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private int previousSetBit(int from) {
+        if (from < 0) {
+            return NONE;
+        }
+        int word = from >>> 6;
+        long bits = occupied[word] & (-1L >>> (63 - (from & 63)));
+        if (bits == 0) {
+            word = previousSetWord(word - 1);
+            if (word == NONE) {
+                return NONE;
+            }
+            bits = occupied[word];
+        }
+        return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+    }
+
+    private int nextSetWord(int from) {
+        if (from >= occupied.length) {
+            return NONE;
+        }
+        int summary = from >>> 6;
+        long bits = occupiedWords[summary] & (-1L << from);
+        while (bits == 0) {
+            if (++summary == occupiedWords.length) {
+                return NONE;
+            }
+            bits = occupiedWords[summary];
+        }
+        return (summary << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private int previousSetWord(int from) {
+        if (from < 0) {
+            return NONE;
+        }
+        int summary = from >>> 6;
+        long bits = occupiedWords[summary] & (-1L >>> (63 - (from & 63)));
+        while (bits == 0) {
+            if (--summary < 0) {
+                return NONE;
+            }
+            bits = occupiedWords[summary];
+        }
+        return (summary << 6) + 63 - Long.numberOfLeadingZeros(bits);
+    }
+
+    private int indexOf(long price) {
+        long offset = price - basePrice;
+        return anchored && offset >= 0 && offset < levels.length ? (int) offset : NONE;
+    }
+
+    private boolean isBetter(long price, long than) {
+        return descending ? price > than : price < than;
+    }
+
+    private PriceLevel newLevel(long price) {
+        PriceLevel level = freeLevels.poll();
+        if (level == null) {
+            level = new PriceLevel();
+        }
+        level.reset(price);
+        return level;
+    }
+
+    @FunctionalInterface
+    interface LevelVisitor {
+        boolean visit(PriceLevel level);
+    }
+}
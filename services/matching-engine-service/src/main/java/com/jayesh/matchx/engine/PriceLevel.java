@@ -0,0 +1,88 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.model.Order;
+
+/**
+ * FIFO of resting orders at one price. The links live on {@link Order} itself, so appending,
+ * removing from the head and unlinking an arbitrary order are all constant-time. Total open
+ * quantity and order count are kept up to date so snapshots never walk the orders.
+ */
+final class PriceLevel {
+    private long price;
+    private Order head;
+    private Order tail;
+    private long totalQuantity;
+    private int orderCount;
+
+    long getPrice() {
+        return price;
+    }
+
+    long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    int getOrderCount() {
+        return orderCount;
+    }
+
+    void reset(long price) {
+        this.price = price;
+        this.head = null;
+        this.tail = null;
+        this.totalQuantity = 0;
+        this.orderCount = 0;
+    }
+
+    void add(Order order) {
+        order.setPrevious(tail);
+        order.setNext(null);
+        if (tail == null) {
+            head = order;
+        } else {
+            tail.setNext(order);
+        }
+        tail = order;
+        totalQuantity += order.getRemainingQuantity();
+        orderCount++;
+    }
+
+    void fill(long quantity) {
+        totalQuantity -= quantity;
+    }
+
+    Order peek() {
+        return head;
+    }
+
+    Order poll() {
+        Order order = head;
+        if (order != null) {
+            remove(order);
+        }
+        return order;
+    }
+
+    void remove(Order order) {
+        Order previous = order.getPrevious();
+        Order next = order.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        order.setPrevious(null);
+        order.setNext(null);
+        totalQuantity -= order.getRemainingQuantity();
+        orderCount--;
+    }
+
+    boolean isEmpty() {
+        return head == null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.util.LongObjectHashMap;
+
+import java.util.function.Consumer;
+
+/**
+ * Reports of orders that recently reached a terminal state, so lookups keep working for a while
+ * after an order has left the book. Holds at most {@code capacity} reports and, with a positive
+ * maximum age, also drops reports completed longer ago than that; both evict oldest first, and
+ * age is only checked when another report is added. Storage grows with use up to the capacity.
+ * Not thread-safe.
+ */
+final class RecentOrders {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int capacity;
+    private final long maxAgeNanos;
+    private final LongObjectHashMap<OrderReport> reports = new LongObjectHashMap<>();
+    private long[] ids;
+    private long[] completedAt;
+    private int head;
+    private int size;
+
+    RecentOrders(int capacity, long maxAgeMillis) {
+        this.capacity = Math.max(0, capacity);
+        this.maxAgeNanos = maxAgeMillis * 1_000_000L;
+        int initial = Math.min(this.capacity, INITIAL_CAPACITY);
+        this.ids = new long[initial];
+        this.completedAt = new long[initial];
+    }
+
+    int size() {
+        return size;
+    }
+
+    OrderReport get(long orderId) {
+        return reports.get(orderId);
+    }
+
+    void add(OrderReport report) {
+        if (capacity == 0) {
+            return;
+        }
+        long now = maxAgeNanos > 0 ? System.nanoTime() : 0;
+        if (maxAgeNanos > 0) {
+            while (size > 0 && now - completedAt[head] > maxAgeNanos) {
+                evictOldest();
+            }
+        }
+        if (size == ids.length) {
+            if (ids.length < capacity) {
+                grow();
+            } else {
+                evictOldest();
+            }
+        }
+        int tail = (head + size) % ids.length;
+        ids[tail] = report.id();
+        completedAt[tail] = now;
+        size++;
+        reports.put(report.id(), report);
+    }
+
+    /**
+     * Visits the reports from oldest to newest.
+     */
+    void forEach(Consumer<OrderReport> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(reports.get(ids[(head + i) % ids.length]));
+        }
+    }
+
+    private void evictOldest() {
+        reports.remove(ids[head]);
+        head = (head + 1) % ids.length;
+        size--;
+    }
+
+    private void grow() {
+        int length = (int) Math.min(capacity, ids.length * 2L);
+        long[] newIds = new long[length];
+        long[] newCompletedAt = new long[length];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % ids.length;
+            newIds[i] = ids[index];
+            newCompletedAt[i] = completedAt[index];
+        }
+        ids = newIds;
+        completedAt = newCompletedAt;
+        head = 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jayesh.matchx.engine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps symbols to matching shards. Explicitly assigned and dedicated symbols win; everything
+ * else is spread over the shared pool by {@link String#hashCode()}, which is specified by the JLS
+ * and therefore stable across restarts as long as the pool size does not change. With a journal,
+ * {@link ShardLayout} records the assignment so a changed pool size fails fast instead.
+ */
+final class ShardAssigner {
+    private final int poolSize;
+    private final int shardCount;
+    private final Map<String, Integer> assignments = new HashMap<>();
+
+    ShardAssigner(int poolSize, Map<String, Integer> symbolShards, List<String> dedicatedSymbols) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("Shard pool size must be positive");
+        }
+        this.poolSize = poolSize;
+        symbolShards.forEach((symbol, shard) -> {
+            if (shard < 0 || shard >= poolSize) {
+                throw new IllegalArgumentException(
+                    "Shard " + shard + " for " + symbol + " is outside the pool of " + poolSize);
+            }
+            assignments.put(symbol, shard);
+        });
+        int next = poolSize;
+        for (String symbol : dedicatedSymbols) {
+            Integer existing = assignments.get(symbol);
+            if (existing == null || existing < poolSize) {
+                assignments.put(symbol, next++);
+            }
+        }
+        this.shardCount = next;
+    }
+
+    /**
+     * Everything that decides where a symbol goes, in a canonical text form.
+     */
+    String describe() {
+        StringBuilder layout = new StringBuilder();
+        layout.append("pool-size=").append(poolSize).append('\n');
+        new TreeMap<>(assignments).forEach((symbol, shard) ->
+            layout.append("symbol=").append(symbol).append(':').append(shard).append('\n'));
+        return layout.toString();
+    }
+
+    int getShardCount() {
+        return shardCount;
+    }
+
+    boolean isDedicated(int shard) {
+        return shard >= poolSize;
+    }
+
+    int shardFor(String symbol) {
+        Integer assigned = assignments.get(symbol);
+        if (assigned != null) {
+            return assigned;
+        }
+        return Math.floorMod(symbol.hashCode(), poolSize);
+    }
+
+    String dedicatedSymbol(int shard) {
+        for (Map.Entry<String, Integer> entry : assignments.entrySet()) {
+            if (entry.getValue() == shard) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+}
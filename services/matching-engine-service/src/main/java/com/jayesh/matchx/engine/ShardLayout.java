@@ -0,0 +1,46 @@
+package com.jayesh.matchx.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Records which shard layout a journal was written with. Journals and snapshots are kept per
+ * shard, so replaying them under a different pool size or symbol assignment would hand a symbol's
+ * history to the wrong shard; the engine therefore refuses to start until the layout matches.
+ */
+final class ShardLayout {
+    static final String FILE_NAME = "shard-layout";
+
+    private ShardLayout() {
+    }
+
+    /**
+     * Writes {@code layout} into {@code directory} on first use and fails if a different layout
+     * was recorded there before.
+     */
+    static void verify(Path directory, String layout) {
+        Path file = directory.resolve(FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+            if (Files.exists(file)) {
+                String recorded = Files.readString(file, StandardCharsets.UTF_8);
+                if (!recorded.equals(layout)) {
+                    throw new IllegalStateException("Journal " + directory + " was written with shard layout ["
+                        + recorded.strip().replace('\n', ' ') + "] but the engine is configured with ["
+                        + layout.strip().replace('\n', ' ') + "]; restore matchx.engine.shards, symbol-shards and "
+                        + "dedicated-symbols to their previous values");
+                }
+                return;
+            }
+            Path temp = directory.resolve(FILE_NAME + ".tmp");
+            Files.writeString(temp, layout, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot record shard layout in " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.jayesh.matchx.engine.audit;
+
+import com.jayesh.matchx.engine.sequencer.AlertException;
+import com.jayesh.matchx.engine.sequencer.InsufficientCapacityException;
+import com.jayesh.matchx.engine.sequencer.ProducerType;
+import com.jayesh.matchx.engine.sequencer.RingBuffer;
+import com.jayesh.matchx.engine.sequencer.Sequence;
+import com.jayesh.matchx.engine.sequencer.SequenceBarrier;
+import com.jayesh.matchx.engine.sequencer.SleepingWaitStrategy;
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.model.Trade;
+import com.jayesh.matchx.util.EpochClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Order and trade audit trail of one matching shard. The matching thread copies each record into
+ * a preallocated ring and never waits: if the ring is full the record is dropped and counted. A
+ * background thread encodes whatever has accumulated and writes it to a file in this directory,
+ * one file per start; {@link AuditLogDecoder} renders files as text.
+ *
+ * <pre>
+ * file    := magic:int version:int record*
+ * record  := type:byte timestamp:long symbolLength:byte symbol[symbolLength] body
+ * body    := ORDER  orderId:long side:byte price:long quantity:long remaining:long status:byte
+ *          | CANCEL orderId:long cancelled:byte
+ *          | TRADE  tradeId:long sequence:long price:long quantity:long
+ *                   buyOrderId:long sellOrderId:long takerSide:byte
+ * </pre>
+ *
+ * Prices and quantities are in ticks and lots, timestamps in epoch nanoseconds.
+ */
+public final class AuditLog implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+
+    static final int MAGIC = 0x4D584155;
+    static final int VERSION = 1;
+    static final String FILE_SUFFIX = ".audit";
+
+    static final byte ORDER = 1;
+    static final byte CANCEL = 2;
+    static final byte TRADE = 3;
+
+    private static final int MAX_RECORD_SIZE = 1 + 8 + 1 + 255 + 7 * 8 + 1;
+
+    private final String name;
+    private final Path file;
+    private final RingBuffer<AuditRecord> ringBuffer;
+    private final SequenceBarrier barrier;
+    private final Sequence sequence;
+    private final ByteBuffer out = ByteBuffer.allocateDirect(1 << 20);
+    private final Thread thread;
+    private FileChannel channel;
+    private String lastSymbol;
+    private byte[] lastSymbolBytes;
+    private volatile boolean running = true;
+    private long lastPublished = -1;
+    private long dropped;
+
+    public AuditLog(Path directory, int bufferSize, String name) {
+        this.name = name;
+        this.file = directory.resolve(String.format("%020d%s", System.currentTimeMillis(), FILE_SUFFIX));
+        this.ringBuffer = new RingBuffer<>(ProducerType.SINGLE, AuditRecord::new, bufferSize, new SleepingWaitStrategy());
+        this.barrier = ringBuffer.newBarrier();
+        this.sequence = ringBuffer.getGatingSequence();
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+            out.putInt(MAGIC).putInt(VERSION);
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open audit log " + file, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Records that could not be logged because the ring was full. Read it only from the matching
+     * thread or after {@link #halt()}.
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * The remaining methods are called only from the owning matching thread.
+     */
+    public void logOrder(OrderReport report) {
+        long s;
+        try {
+            s = ringBuffer.tryNext();
+        } catch (InsufficientCapacityException e) {
+            dropped++;
+            return;
+        }
+        AuditRecord record = ringBuffer.get(s);
+        record.type = ORDER;
+        record.timestamp = report.timestamp();
+        record.symbol = report.symbol();
+        record.id = report.id();
+        record.side = report.side();
+        record.price = report.price();
+        record.quantity = report.quantity();
+        record.remainingQuantity = report.remainingQuantity();
+        record.status = report.status();
+        publish(s, s);
+    }
+
+    public void logCancel(String symbol, long orderId, boolean cancelled) {
+        long s;
+        try {
+            s = ringBuffer.tryNext();
+        } catch (InsufficientCapacityException e) {
+            dropped++;
+            return;
+        }
+        AuditRecord record = ringBuffer.get(s);
+        record.type = CANCEL;
+        record.timestamp = EpochClock.epochNanos();
+        record.symbol = symbol;
+        record.id = orderId;
+        record.cancelled = cancelled;
+        publish(s, s);
+    }
+
+    public void logTrades(List<Trade> trades) {
+        int count = trades.size();
+        long hi;
+        try {
+            hi = ringBuffer.tryNext(count);
+        } catch (InsufficientCapacityException | IllegalArgumentException e) {
+            dropped += count;
+            return;
+        }
+        long lo = hi - count + 1;
+        for (int i = 0; i < count; i++) {
+            Trade trade = trades.get(i);
+            AuditRecord record = ringBuffer.get(lo + i);
+            record.type = TRADE;
+            record.timestamp = trade.getTimestamp();
+            record.symbol = trade.getSymbol();
+            record.id = trade.getTradeId();
+            record.sequence = trade.getSequence();
+            record.side = trade.getTakerSide();
+            record.price = trade.getPrice();
+            record.quantity = trade.getQuantity();
+            record.buyOrderId = trade.getBuyOrderId();
+            record.sellOrderId = trade.getSellOrderId();
+        }
+        publish(lo, hi);
+    }
+
+    private void publish(long lo, long hi) {
+        ringBuffer.publish(lo, hi);
+        lastPublished = hi;
+    }
+
+    /**
+     * Waits briefly for logged records to be written, then stops the writer thread and closes the
+     * file. Must be called after the matching thread has stopped logging.
+     */
+    public void halt() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sequence.get() < lastPublished && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        running = false;
+        barrier.alert();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped > 0) {
+            logger.warn("Audit log {} dropped {} records because its buffer was full", name, dropped);
+        }
+    }
+
+    @Override
+    public void run() {
+        long nextSequence = sequence.get() + 1;
+        try {
+            while (true) {
+                try {
+                    long availableSequence = barrier.waitFor(nextSequence);
+                    for (long s = nextSequence; s <= availableSequence; s++) {
+                        if (out.remaining() < MAX_RECORD_SIZE) {
+                            flush();
+                        }
+                        encode(ringBuffer.get(s));
+                    }
+                    flush();
+                    sequence.set(availableSequence);
+                    nextSequence = availableSequence + 1;
+                } catch (AlertException e) {
+                    if (!running) {
+                        break;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Audit log {} failed writing {}; further records are dropped", name, file, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Error closing audit log {}", file, e);
+            }
+        }
+    }
+
+    private void encode(AuditRecord record) {
+        out.put(record.type);
+        out.putLong(record.timestamp);
+        byte[] symbol = symbolBytes(record.symbol);
+        out.put((byte) symbol.length);
+        out.put(symbol);
+        switch (record.type) {
+            case ORDER -> out.putLong(record.id)
+                .put((byte) record.side.ordinal())
+                .putLong(record.price)
+                .putLong(record.quantity)
+                .putLong(record.remainingQuantity)
+                .put((byte) record.status.ordinal());
+            case CANCEL -> out.putLong(record.id)
+                .put((byte) (record.cancelled ? 1 : 0));
+            case TRADE -> out.putLong(record.id)
+                .putLong(record.sequence)
+                .putLong(record.price)
+                .putLong(record.quantity)
+                .putLong(record.buyOrderId)
+                .putLong(record.sellOrderId)
+                .put((byte) record.side.ordinal());
+            default -> throw new IllegalStateException("Unknown audit record type " + record.type);
+        }
+    }
+
+    private byte[] symbolBytes(String symbol) {
+        if (!symbol.equals(lastSymbol)) {
+            byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+            lastSymbol = symbol;
+            lastSymbolBytes = bytes.length > 255 ? Arrays.copyOf(bytes, 255) : bytes;
+        }
+        return lastSymbolBytes;
+    }
+
+    private void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+}
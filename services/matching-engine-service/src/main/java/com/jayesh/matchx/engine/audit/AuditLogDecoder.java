@@ -0,0 +1,113 @@
+package com.jayesh.matchx.engine.audit;
+
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.OrderStatus;
+import com.jayesh.matchx.util.EpochClock;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Renders audit log files written by {@link AuditLog} as one line of text per record.
+ *
+ * <pre>
+ * java -cp matching-engine-service.jar com.jayesh.matchx.engine.audit.AuditLogDecoder &lt;file or directory&gt;...
+ * </pre>
+ *
+ * Directories are searched recursively and their files decoded in name order.
+ */
+public final class AuditLogDecoder {
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private AuditLogDecoder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: AuditLogDecoder <file or directory>...");
+            System.exit(1);
+        }
+        for (String arg : args) {
+            for (Path file : files(Path.of(arg))) {
+                decode(file, System.out);
+            }
+        }
+    }
+
+    /**
+     * Writes every complete record of {@code file} to {@code out} and returns how many there were.
+     * A record cut short by a crash ends the file.
+     */
+    public static long decode(Path file, PrintStream out) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (in.remaining() < 8 || in.getInt() != AuditLog.MAGIC || in.getInt() != AuditLog.VERSION) {
+            throw new IOException("Not an audit log: " + file);
+        }
+        long records = 0;
+        StringBuilder line = new StringBuilder(160);
+        while (in.hasRemaining()) {
+            line.setLength(0);
+            try {
+                decodeRecord(in, line);
+            } catch (BufferUnderflowException e) {
+                out.println("# " + file + " ends with a truncated record");
+                break;
+            }
+            out.println(line);
+            records++;
+        }
+        return records;
+    }
+
+    private static void decodeRecord(ByteBuffer in, StringBuilder line) throws IOException {
+        byte type = in.get();
+        long timestamp = in.getLong();
+        byte[] symbol = new byte[Byte.toUnsignedInt(in.get())];
+        in.get(symbol);
+        line.append(EpochClock.toInstant(timestamp)).append(' ');
+        switch (type) {
+            case AuditLog.ORDER -> line.append("ORDER ")
+                .append(new String(symbol, StandardCharsets.UTF_8))
+                .append(" id=").append(in.getLong())
+                .append(" side=").append(SIDES[in.get()])
+                .append(" price=").append(in.getLong())
+                .append(" quantity=").append(in.getLong())
+                .append(" remaining=").append(in.getLong())
+                .append(" status=").append(STATUSES[in.get()]);
+            case AuditLog.CANCEL -> line.append("CANCEL ")
+                .append(new String(symbol, StandardCharsets.UTF_8))
+                .append(" id=").append(in.getLong())
+                .append(" cancelled=").append(in.get() != 0);
+            case AuditLog.TRADE -> line.append("TRADE ")
+                .append(new String(symbol, StandardCharsets.UTF_8))
+                .append(" id=").append(in.getLong())
+                .append(" sequence=").append(in.getLong())
+                .append(" price=").append(in.getLong())
+                .append(" quantity=").append(in.getLong())
+                .append(" buy=").append(in.getLong())
+                .append(" sell=").append(in.getLong())
+                .append(" taker=").append(SIDES[in.get()]);
+            default -> throw new IOException("Unknown audit record type " + type);
+        }
+    }
+
+    private static List<Path> files(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(AuditLog.FILE_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+}
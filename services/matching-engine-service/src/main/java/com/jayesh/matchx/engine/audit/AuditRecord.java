@@ -0,0 +1,23 @@
+package com.jayesh.matchx.engine.audit;
+
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.OrderStatus;
+
+/**
+ * Mutable ring slot for one audit record; which fields are meaningful depends on {@link #type}.
+ */
+final class AuditRecord {
+    byte type;
+    long timestamp;
+    String symbol;
+    long id;
+    long sequence;
+    OrderSide side;
+    long price;
+    long quantity;
+    long remainingQuantity;
+    OrderStatus status;
+    long buyOrderId;
+    long sellOrderId;
+    boolean cancelled;
+}
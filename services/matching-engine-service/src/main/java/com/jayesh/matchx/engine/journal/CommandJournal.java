@@ -0,0 +1,377 @@
+package com.jayesh.matchx.engine.journal;
+
+import com.jayesh.matchx.model.OrderSide;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of the commands accepted by one matching shard, written through memory-mapped
+ * segment files. Only the shard thread may append; {@link #commit()} applies the
+ * {@link SyncPolicy} once per batch so no command pays for its own fsync.
+ *
+ * <pre>
+ * segment  := magic:int version:int record*
+ * record   := length:int crc32c:int payload[length]
+ * payload  := SYMBOL    id:int length:short utf8[length]
+ *           | NEW_ORDER sequence:long symbolId:int orderId:long side:byte
+ *                       price:long quantity:long timestamp:long
+ *           | CANCEL    sequence:long symbolId:int orderId:long
+ *           | FAILED    sequence:long
+ * </pre>
+ *
+ * Symbols are interned per segment so that every segment can be replayed on its own. Segments
+ * are named after the first sequence they contain; a torn or zeroed record ends its segment.
+ *
+ * <p>A FAILED record directly follows a command that threw when it was first processed. Replay
+ * still delivers that command, but logs and moves past a failure it throws again instead of
+ * aborting recovery. Every command reserves room for its FAILED record, so the two always share a
+ * segment.
+ */
+public final class CommandJournal implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(CommandJournal.class);
+
+    public static final int MIN_SEGMENT_SIZE = 64 * 1024;
+
+    private static final int MAGIC = 0x4D584A4C;
+    private static final int VERSION = 1;
+    private static final int SEGMENT_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final byte SYMBOL = 1;
+    private static final byte NEW_ORDER = 2;
+    private static final byte CANCEL = 3;
+    private static final byte FAILED = 4;
+    private static final int NEW_ORDER_SIZE = 1 + 8 + 4 + 8 + 1 + 8 + 8 + 8;
+    private static final int CANCEL_SIZE = 1 + 8 + 4 + 8;
+    private static final int FAILED_SIZE = 1 + 8;
+
+    private static final OrderSide[] SIDES = OrderSide.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalNanos;
+    private final CRC32C checksum = new CRC32C();
+    private final Map<String, Integer> symbolIds = new HashMap<>();
+
+    private MappedByteBuffer buffer;
+    private int position;
+    private int syncedPosition;
+    private long lastSyncNanos;
+    private long lastSequence;
+
+    public CommandJournal(Path directory, int segmentSize, SyncPolicy syncPolicy, long syncIntervalMillis) {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Journal segment size must be at least " + MIN_SEGMENT_SIZE);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncPolicy = syncPolicy;
+        this.syncIntervalNanos = syncIntervalMillis * 1_000_000L;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sequence of the last command appended or replayed.
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Replays every command after {@code afterSequence} and returns how many were delivered.
+     * Must be called before the first append; new commands always go to a fresh segment.
+     */
+    public long replay(long afterSequence, JournalHandler handler) {
+        lastSequence = afterSequence;
+        long replayed = 0;
+        for (Path segment : segments()) {
+            replayed += replaySegment(segment, handler);
+        }
+        return replayed;
+    }
+
+    public void appendNewOrder(String symbol, long orderId, OrderSide side,
+                               long price, long quantity, long timestamp) {
+        int symbolId = reserve(symbol, NEW_ORDER_SIZE);
+        int offset = position + RECORD_HEADER_SIZE;
+        buffer.put(offset, NEW_ORDER);
+        buffer.putLong(offset + 1, lastSequence + 1);
+        buffer.putInt(offset + 9, symbolId);
+        buffer.putLong(offset + 13, orderId);
+        buffer.put(offset + 21, (byte) side.ordinal());
+        buffer.putLong(offset + 22, price);
+        buffer.putLong(offset + 30, quantity);
+        buffer.putLong(offset + 38, timestamp);
+        seal(NEW_ORDER_SIZE);
+        lastSequence++;
+    }
+
+    public void appendCancel(String symbol, long orderId) {
+        int symbolId = reserve(symbol, CANCEL_SIZE);
+        int offset = position + RECORD_HEADER_SIZE;
+        buffer.put(offset, CANCEL);
+        buffer.putLong(offset + 1, lastSequence + 1);
+        buffer.putInt(offset + 9, symbolId);
+        buffer.putLong(offset + 13, orderId);
+        seal(CANCEL_SIZE);
+        lastSequence++;
+    }
+
+    /**
+     * Marks the command appended last as having failed live. Must be called before anything else
+     * is appended.
+     */
+    public void markFailed() {
+        if (buffer == null) {
+            throw new IllegalStateException("No command appended to mark as failed");
+        }
+        int offset = position + RECORD_HEADER_SIZE;
+        buffer.put(offset, FAILED);
+        buffer.putLong(offset + 1, lastSequence);
+        seal(FAILED_SIZE);
+    }
+
+    /**
+     * Called by the shard at the end of each batch.
+     */
+    public void commit() {
+        switch (syncPolicy) {
+            case BATCH -> force();
+            case INTERVAL -> {
+                if (System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+                    force();
+                }
+            }
+            case NONE -> {
+            }
+        }
+    }
+
+    /**
+     * Deletes segments whose commands all precede {@code sequence}, typically once a snapshot
+     * at that sequence is durable. The active segment is never deleted, and this only touches
+     * the file system, so it may run off the shard thread.
+     */
+    public int deleteSegmentsBefore(long sequence) {
+        List<Path> segments = segments();
+        int deleted = 0;
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSequence(segments.get(i + 1)) > sequence + 1) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segments.get(i));
+                deleted++;
+            } catch (IOException e) {
+                logger.warn("Failed to delete journal segment {}", segments.get(i), e);
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() {
+        if (buffer != null) {
+            force();
+            buffer = null;
+        }
+    }
+
+    private int reserve(String symbol, int payloadSize) {
+        Integer symbolId = buffer != null ? symbolIds.get(symbol) : null;
+        byte[] symbolBytes = symbolId == null ? symbol.getBytes(StandardCharsets.UTF_8) : null;
+        int required = RECORD_HEADER_SIZE + payloadSize + RECORD_HEADER_SIZE + FAILED_SIZE;
+        if (symbolId == null) {
+            required += RECORD_HEADER_SIZE + symbolRecordSize(symbolBytes);
+        }
+        if (buffer == null || position + required > segmentSize) {
+            roll();
+            symbolId = null;
+        }
+        if (symbolId == null) {
+            if (symbolBytes == null) {
+                symbolBytes = symbol.getBytes(StandardCharsets.UTF_8);
+            }
+            symbolId = symbolIds.size();
+            int offset = position + RECORD_HEADER_SIZE;
+            buffer.put(offset, SYMBOL);
+            buffer.putInt(offset + 1, symbolId);
+            buffer.putShort(offset + 5, (short) symbolBytes.length);
+            buffer.put(offset + 7, symbolBytes);
+            seal(symbolRecordSize(symbolBytes));
+            symbolIds.put(symbol, symbolId);
+        }
+        return symbolId;
+    }
+
+    private static int symbolRecordSize(byte[] symbolBytes) {
+        if (symbolBytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Symbol too long for journal");
+        }
+        return 1 + 4 + 2 + symbolBytes.length;
+    }
+
+    private void seal(int payloadSize) {
+        int offset = position + RECORD_HEADER_SIZE;
+        checksum.reset();
+        buffer.limit(offset + payloadSize).position(offset);
+        checksum.update(buffer);
+        buffer.clear();
+        buffer.putInt(position + 4, (int) checksum.getValue());
+        buffer.putInt(position, payloadSize);
+        position = offset + payloadSize;
+    }
+
+    private void force() {
+        if (buffer != null && position > syncedPosition) {
+            buffer.force(syncedPosition, position - syncedPosition);
+            syncedPosition = position;
+        }
+        lastSyncNanos = System.nanoTime();
+    }
+
+    private void roll() {
+        close();
+        Path file = directory.resolve(String.format("%020d%s", lastSequence + 1, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal segment " + file, e);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        position = SEGMENT_HEADER_SIZE;
+        syncedPosition = 0;
+        symbolIds.clear();
+        logger.debug("Opened journal segment {}", file);
+    }
+
+    private long replaySegment(Path file, JournalHandler handler) {
+        MappedByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read journal segment " + file, e);
+        }
+        int limit = in.capacity();
+        if (limit < SEGMENT_HEADER_SIZE || in.getInt(0) != MAGIC || in.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a journal segment: " + file);
+        }
+        List<String> symbols = new ArrayList<>();
+        long replayed = 0;
+        int offset = SEGMENT_HEADER_SIZE;
+        while (offset + RECORD_HEADER_SIZE <= limit) {
+            int length = in.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            int payload = offset + RECORD_HEADER_SIZE;
+            if (length < 0 || length > limit - payload || !checksumMatches(in, payload, length, in.getInt(offset + 4))) {
+                logger.warn("Journal segment {} ends with a torn record at offset {}", file, offset);
+                break;
+            }
+            byte type = in.get(payload);
+            if (type == SYMBOL) {
+                byte[] bytes = new byte[in.getShort(payload + 5)];
+                in.get(payload + 7, bytes);
+                symbols.add(in.getInt(payload + 1), new String(bytes, StandardCharsets.UTF_8));
+            } else if (type == NEW_ORDER || type == CANCEL) {
+                long sequence = in.getLong(payload + 1);
+                if (sequence > lastSequence) {
+                    if (sequence != lastSequence + 1) {
+                        throw new IllegalStateException("Journal gap in " + directory
+                            + ": expected sequence " + (lastSequence + 1) + " but found " + sequence);
+                    }
+                    String symbol = symbols.get(in.getInt(payload + 9));
+                    try {
+                        deliver(in, payload, type, sequence, symbol, handler);
+                    } catch (RuntimeException e) {
+                        if (!isFailedMarker(in, payload + length, sequence)) {
+                            throw e;
+                        }
+                        logger.warn("Command {} in {} failed again on replay, as it did when first processed",
+                            sequence, directory, e);
+                    }
+                    lastSequence = sequence;
+                    replayed++;
+                }
+            } else if (type != FAILED) {
+                throw new IllegalStateException("Unknown journal record type " + type + " in " + file);
+            }
+            offset = payload + length;
+        }
+        return replayed;
+    }
+
+    private static void deliver(MappedByteBuffer in, int payload, byte type, long sequence, String symbol,
+                                JournalHandler handler) {
+        long orderId = in.getLong(payload + 13);
+        if (type == NEW_ORDER) {
+            handler.onNewOrder(sequence, symbol, orderId, SIDES[in.get(payload + 21)],
+                in.getLong(payload + 22), in.getLong(payload + 30), in.getLong(payload + 38));
+        } else {
+            handler.onCancel(sequence, symbol, orderId);
+        }
+    }
+
+    private boolean isFailedMarker(MappedByteBuffer in, int offset, long sequence) {
+        int payload = offset + RECORD_HEADER_SIZE;
+        return payload + FAILED_SIZE <= in.capacity()
+            && in.getInt(offset) == FAILED_SIZE
+            && checksumMatches(in, payload, FAILED_SIZE, in.getInt(offset + 4))
+            && in.get(payload) == FAILED
+            && in.getLong(payload + 1) == sequence;
+    }
+
+    private boolean checksumMatches(MappedByteBuffer in, int offset, int length, int expected) {
+        checksum.reset();
+        in.limit(offset + length).position(offset);
+        checksum.update(in);
+        in.clear();
+        return (int) checksum.getValue() == expected;
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list journal directory " + directory, e);
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
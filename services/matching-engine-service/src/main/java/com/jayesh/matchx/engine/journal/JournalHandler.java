@@ -0,0 +1,13 @@
+package com.jayesh.matchx.engine.journal;
+
+import com.jayesh.matchx.model.OrderSide;
+
+/**
+ * Receives journaled commands in sequence order during replay.
+ */
+public interface JournalHandler {
+    void onNewOrder(long sequence, String symbol, long orderId, OrderSide side,
+                    long price, long quantity, long timestamp);
+
+    void onCancel(long sequence, String symbol, long orderId);
+}
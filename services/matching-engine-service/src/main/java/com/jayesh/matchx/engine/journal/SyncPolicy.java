@@ -0,0 +1,14 @@
+package com.jayesh.matchx.engine.journal;
+
+/**
+ * When the matching thread forces journal writes to disk. The check runs once per consumed
+ * batch, so the cost of an fsync is shared by every command in that batch.
+ */
+public enum SyncPolicy {
+    /** Force at the end of every batch, before its futures complete. */
+    BATCH,
+    /** Force at the end of a batch once the sync interval has elapsed since the last force. */
+    INTERVAL,
+    /** Never force; the OS writes dirty pages back on its own schedule. */
+    NONE
+}
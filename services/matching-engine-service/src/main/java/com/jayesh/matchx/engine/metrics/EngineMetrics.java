@@ -0,0 +1,38 @@
+package com.jayesh.matchx.engine.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registry of per-shard stage histograms with a runtime switch. While disabled the hot path pays
+ * one volatile read per command and records nothing; enabling starts every shard from empty
+ * histograms so percentiles describe the current run.
+ */
+public final class EngineMetrics {
+    private final Map<String, ShardMetrics> shards = new LinkedHashMap<>();
+    private volatile boolean enabled;
+
+    public EngineMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            shards.values().forEach(ShardMetrics::reset);
+        }
+        this.enabled = enabled;
+    }
+
+    public synchronized ShardMetrics register(String shardName) {
+        return shards.computeIfAbsent(shardName, name -> new ShardMetrics(this));
+    }
+
+    public synchronized Map<String, ShardMetrics> getShards() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+    }
+}
@@ -0,0 +1,140 @@
+package com.jayesh.matchx.engine.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage histograms of one matching shard. Queue wait, match time, fills and book depth are
+ * recorded by the matching thread and publish time by the shard's output thread, so every stage
+ * records into a wait-free {@link SingleWriterRecorder}. Summaries fold the recorder's interval
+ * histograms into a running total, so they cover everything since the last reset. Latencies are
+ * in nanoseconds.
+ */
+public final class ShardMetrics {
+    private final EngineMetrics engineMetrics;
+    private volatile Histograms histograms = new Histograms();
+
+    ShardMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+    }
+
+    public boolean isEnabled() {
+        return engineMetrics.isEnabled();
+    }
+
+    public void recordQueueWait(long nanos) {
+        histograms.queueWait.record(nanos);
+    }
+
+    public void recordMatch(long nanos) {
+        histograms.match.record(nanos);
+    }
+
+    public void recordFills(int fills) {
+        histograms.fillsPerOrder.record(fills);
+    }
+
+    public void recordBookDepth(int levels) {
+        histograms.bookDepth.record(levels);
+    }
+
+    public void recordPublish(long nanos) {
+        histograms.publish.record(nanos);
+    }
+
+    public Map<String, Summary> summarize() {
+        Histograms current = histograms;
+        Map<String, Summary> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            stages.put(stage.key(), current.get(stage).summarize());
+        }
+        return stages;
+    }
+
+    public Summary summarize(Stage stage) {
+        return histograms.get(stage).summarize();
+    }
+
+    /**
+     * Starts a fresh set of histograms. A record racing with the swap may land in the old set.
+     */
+    void reset() {
+        histograms = new Histograms();
+    }
+
+    private static final class Histograms {
+        final StageHistogram queueWait = new StageHistogram();
+        final StageHistogram match = new StageHistogram();
+        final StageHistogram publish = new StageHistogram();
+        final StageHistogram fillsPerOrder = new StageHistogram();
+        final StageHistogram bookDepth = new StageHistogram();
+
+        StageHistogram get(Stage stage) {
+            return switch (stage) {
+                case QUEUE_WAIT -> queueWait;
+                case MATCH -> match;
+                case PUBLISH -> publish;
+                case FILLS_PER_ORDER -> fillsPerOrder;
+                case BOOK_DEPTH -> bookDepth;
+            };
+        }
+    }
+
+    /**
+     * One stage's recorder and the total of the intervals summarized so far. Values are recorded
+     * within 1% and clamped to an hour so recording never resizes the histogram.
+     */
+    private static final class StageHistogram {
+        private static final long HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toNanos(1);
+        private static final int SIGNIFICANT_DIGITS = 2;
+
+        private final SingleWriterRecorder recorder =
+            new SingleWriterRecorder(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        void record(long value) {
+            recorder.recordValue(Math.min(Math.max(0, value), HIGHEST_TRACKABLE_VALUE));
+        }
+
+        synchronized Summary summarize() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            if (total.getTotalCount() == 0) {
+                return new Summary(0, 0, 0, 0, 0, 0);
+            }
+            return new Summary(total.getTotalCount(), total.getMean(),
+                total.getValueAtPercentile(50.0),
+                total.getValueAtPercentile(99.0),
+                total.getValueAtPercentile(99.9),
+                total.getMaxValue());
+        }
+    }
+
+    public record Summary(long count, double mean, long p50, long p99, long p999, long max) {}
+
+    /**
+     * Recorded stages, with the keys {@link #summarize()} reports them under.
+     */
+    public enum Stage {
+        QUEUE_WAIT("queueWaitNanos"),
+        MATCH("matchNanos"),
+        PUBLISH("publishNanos"),
+        FILLS_PER_ORDER("fillsPerOrder"),
+        BOOK_DEPTH("bookDepth");
+
+        private final String key;
+
+        Stage(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+}
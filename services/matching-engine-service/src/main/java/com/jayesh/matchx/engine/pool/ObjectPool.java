@@ -0,0 +1,54 @@
+package com.jayesh.matchx.engine.pool;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool owned by one thread. The owner acquires and releases without synchronisation;
+ * other threads hand objects back through a bounded array queue that the owner drains in bulk
+ * when its local stack runs dry. Objects beyond capacity are left to the garbage collector.
+ */
+public final class ObjectPool<T> {
+    private final Supplier<T> factory;
+    private final int capacity;
+    private final ArrayDeque<T> local;
+    private final ArrayBlockingQueue<T> returned;
+    private volatile Thread owner;
+
+    public ObjectPool(Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+        this.local = new ArrayDeque<>(capacity);
+        this.returned = new ArrayBlockingQueue<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            local.push(factory.get());
+        }
+    }
+
+    /**
+     * Binds the pool to the calling thread; only that thread may call {@link #acquire()}.
+     */
+    public void bindToCurrentThread() {
+        owner = Thread.currentThread();
+    }
+
+    public T acquire() {
+        T object = local.poll();
+        if (object == null) {
+            returned.drainTo(local, capacity);
+            object = local.poll();
+        }
+        return object != null ? object : factory.get();
+    }
+
+    public void release(T object) {
+        if (Thread.currentThread() == owner) {
+            if (local.size() < capacity) {
+                local.push(object);
+            }
+        } else {
+            returned.offer(object);
+        }
+    }
+}
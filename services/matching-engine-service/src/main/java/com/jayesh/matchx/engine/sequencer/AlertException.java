@@ -0,0 +1,12 @@
+package com.jayesh.matchx.engine.sequencer;
+
+/**
+ * Thrown from {@link SequenceBarrier#waitFor(long)} when the consumer has been asked to stop.
+ */
+public final class AlertException extends Exception {
+    static final AlertException INSTANCE = new AlertException();
+
+    private AlertException() {
+        super("Sequence barrier alerted", null, false, false);
+    }
+}
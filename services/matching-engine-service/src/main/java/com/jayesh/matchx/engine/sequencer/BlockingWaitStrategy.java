@@ -0,0 +1,51 @@
+package com.jayesh.matchx.engine.sequencer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Parks the consumer on a condition. Producers only take the lock when a consumer has actually
+ * gone to sleep, so a busy consumer costs publishers a single atomic read.
+ */
+public final class BlockingWaitStrategy implements WaitStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition processorNotifyCondition = lock.newCondition();
+    private final AtomicBoolean signalNeeded = new AtomicBoolean(false);
+
+    @Override
+    public long waitFor(long sequence, Sequence cursor, SequenceBarrier barrier)
+            throws AlertException, InterruptedException {
+        long available = cursor.get();
+        if (available < sequence) {
+            lock.lock();
+            try {
+                do {
+                    signalNeeded.getAndSet(true);
+                    available = cursor.get();
+                    if (available >= sequence) {
+                        break;
+                    }
+                    barrier.checkAlert();
+                    processorNotifyCondition.await();
+                    available = cursor.get();
+                } while (available < sequence);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+        if (signalNeeded.getAndSet(false)) {
+            lock.lock();
+            try {
+                processorNotifyCondition.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jayesh.matchx.engine.sequencer;
+
+/**
+ * Never gives up the CPU. Lowest latency, but each consumer needs a dedicated core.
+ */
+public final class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public long waitFor(long sequence, Sequence cursor, SequenceBarrier barrier) throws AlertException {
+        long available;
+        while ((available = cursor.get()) < sequence) {
+            barrier.checkAlert();
+            Thread.onSpinWait();
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.jayesh.matchx.engine.sequencer;
+
+/**
+ * Thrown from {@link RingBuffer#tryNext(int)} when the ring has no room for the claim.
+ */
+public final class InsufficientCapacityException extends Exception {
+    static final InsufficientCapacityException INSTANCE = new InsufficientCapacityException();
+
+    private InsufficientCapacityException() {
+        super("Ring buffer is full", null, false, false);
+    }
+}
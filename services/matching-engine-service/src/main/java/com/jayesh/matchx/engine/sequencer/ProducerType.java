@@ -0,0 +1,7 @@
+package com.jayesh.matchx.engine.sequencer;
+
+public enum ProducerType {
+    /** Claims sequences without synchronisation; only safe when a single thread ever publishes. */
+    SINGLE,
+    MULTI
+}
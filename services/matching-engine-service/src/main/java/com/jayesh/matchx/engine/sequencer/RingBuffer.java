@@ -0,0 +1,181 @@
+package com.jayesh.matchx.engine.sequencer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Supplier;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Preallocated ring of mutable entries with a single consumer. Producers claim a sequence, fill
+ * the entry in place and publish it; the consumer processes everything published so far as one
+ * batch. With {@link ProducerType#MULTI} sequences are claimed with an atomic add and each slot
+ * carries its own availability flag, so producers never lock each other out.
+ */
+public final class RingBuffer<E> {
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final Object[] entries;
+    private final int bufferSize;
+    private final int indexMask;
+    private final int indexShift;
+    private final ProducerType producerType;
+    private final WaitStrategy waitStrategy;
+
+    private final Sequence cursor = new Sequence(-1);
+    private final Sequence gatingSequence = new Sequence(-1);
+    private final int[] availableBuffer;
+
+    private long nextValue = -1;
+    private long cachedGatingSequence = -1;
+
+    public RingBuffer(ProducerType producerType, Supplier<E> factory, int bufferSize, WaitStrategy waitStrategy) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Ring buffer size must be a power of 2, was " + bufferSize);
+        }
+        this.producerType = producerType;
+        this.bufferSize = bufferSize;
+        this.indexMask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.waitStrategy = waitStrategy;
+        this.entries = new Object[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            entries[i] = factory.get();
+        }
+        this.availableBuffer = new int[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            AVAILABLE.setRelease(availableBuffer, i, -1);
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) entries[(int) sequence & indexMask];
+    }
+
+    public long next() {
+        return next(1);
+    }
+
+    /**
+     * Claims {@code n} consecutive sequences and returns the highest one, waiting for the consumer
+     * if the ring is full.
+     */
+    public long next(int n) {
+        if (n < 1 || n > bufferSize) {
+            throw new IllegalArgumentException("n must be > 0 and <= " + bufferSize);
+        }
+        if (producerType == ProducerType.SINGLE) {
+            long next = nextValue + n;
+            long wrapPoint = next - bufferSize;
+            if (wrapPoint > cachedGatingSequence) {
+                long gating;
+                while (wrapPoint > (gating = gatingSequence.get())) {
+                    LockSupport.parkNanos(1);
+                }
+                cachedGatingSequence = gating;
+            }
+            nextValue = next;
+            return next;
+        }
+        long current = cursor.getAndAdd(n);
+        long next = current + n;
+        long wrapPoint = next - bufferSize;
+        while (wrapPoint > gatingSequence.get()) {
+            LockSupport.parkNanos(1);
+        }
+        return next;
+    }
+
+    public long tryNext() throws InsufficientCapacityException {
+        return tryNext(1);
+    }
+
+    /**
+     * Claims {@code n} consecutive sequences like {@link #next(int)}, but fails instead of
+     * waiting when the consumer has not freed enough entries.
+     */
+    public long tryNext(int n) throws InsufficientCapacityException {
+        if (n < 1 || n > bufferSize) {
+            throw new IllegalArgumentException("n must be > 0 and <= " + bufferSize);
+        }
+        if (producerType == ProducerType.SINGLE) {
+            long next = nextValue + n;
+            long wrapPoint = next - bufferSize;
+            if (wrapPoint > cachedGatingSequence) {
+                long gating = gatingSequence.get();
+                if (wrapPoint > gating) {
+                    throw InsufficientCapacityException.INSTANCE;
+                }
+                cachedGatingSequence = gating;
+            }
+            nextValue = next;
+            return next;
+        }
+        long current;
+        long next;
+        do {
+            current = cursor.get();
+            next = current + n;
+            if (next - bufferSize > gatingSequence.get()) {
+                throw InsufficientCapacityException.INSTANCE;
+            }
+        } while (!cursor.compareAndSet(current, next));
+        return next;
+    }
+
+    /**
+     * Whether {@code n} more entries could be claimed right now without waiting.
+     */
+    public boolean hasAvailableCapacity(int n) {
+        long claimed = producerType == ProducerType.SINGLE ? nextValue : cursor.get();
+        return claimed + n - bufferSize <= gatingSequence.get();
+    }
+
+    public void publish(long sequence) {
+        publish(sequence, sequence);
+    }
+
+    public void publish(long lo, long hi) {
+        if (producerType == ProducerType.SINGLE) {
+            cursor.set(hi);
+        } else {
+            for (long sequence = lo; sequence <= hi; sequence++) {
+                AVAILABLE.setRelease(availableBuffer, (int) sequence & indexMask, (int) (sequence >>> indexShift));
+            }
+        }
+        waitStrategy.signalAllWhenBlocking();
+    }
+
+    public SequenceBarrier newBarrier() {
+        return new SequenceBarrier(this, waitStrategy);
+    }
+
+    /**
+     * Sequence of the last entry the consumer has finished with. Producers will not overwrite
+     * entries beyond it.
+     */
+    public Sequence getGatingSequence() {
+        return gatingSequence;
+    }
+
+    Sequence getCursor() {
+        return cursor;
+    }
+
+    long getHighestPublishedSequence(long lowerBound, long availableSequence) {
+        if (producerType == ProducerType.SINGLE) {
+            return availableSequence;
+        }
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            int flag = (int) AVAILABLE.getAcquire(availableBuffer, (int) sequence & indexMask);
+            if (flag != (int) (sequence >>> indexShift)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+}
@@ -0,0 +1,36 @@
+package com.jayesh.matchx.engine.sequencer;
+
+/**
+ * Consumer-side view of a {@link RingBuffer}: waits until a sequence is published and returns the
+ * highest contiguous sequence that can be processed as one batch.
+ */
+public final class SequenceBarrier {
+    private final RingBuffer<?> ringBuffer;
+    private final WaitStrategy waitStrategy;
+    private volatile boolean alerted;
+
+    SequenceBarrier(RingBuffer<?> ringBuffer, WaitStrategy waitStrategy) {
+        this.ringBuffer = ringBuffer;
+        this.waitStrategy = waitStrategy;
+    }
+
+    public long waitFor(long sequence) throws AlertException, InterruptedException {
+        checkAlert();
+        long available = waitStrategy.waitFor(sequence, ringBuffer.getCursor(), this);
+        if (available < sequence) {
+            return available;
+        }
+        return ringBuffer.getHighestPublishedSequence(sequence, available);
+    }
+
+    public void alert() {
+        alerted = true;
+        waitStrategy.signalAllWhenBlocking();
+    }
+
+    public void checkAlert() throws AlertException {
+        if (alerted) {
+            throw AlertException.INSTANCE;
+        }
+    }
+}
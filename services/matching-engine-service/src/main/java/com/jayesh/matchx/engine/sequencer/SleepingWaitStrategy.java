@@ -0,0 +1,36 @@
+package com.jayesh.matchx.engine.sequencer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Polls the cursor, parking for a fixed interval between checks. Producers never signal, so
+ * publishing costs them nothing beyond the cursor write; suited to consumers where throughput
+ * matters and a wakeup delay of one interval does not.
+ */
+public final class SleepingWaitStrategy implements WaitStrategy {
+    private static final long DEFAULT_SLEEP_NANOS = 100_000;
+
+    private final long sleepNanos;
+
+    public SleepingWaitStrategy() {
+        this(DEFAULT_SLEEP_NANOS);
+    }
+
+    public SleepingWaitStrategy(long sleepNanos) {
+        this.sleepNanos = sleepNanos;
+    }
+
+    @Override
+    public long waitFor(long sequence, Sequence cursor, SequenceBarrier barrier) throws AlertException {
+        long available;
+        while ((available = cursor.get()) < sequence) {
+            barrier.checkAlert();
+            LockSupport.parkNanos(sleepNanos);
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.jayesh.matchx.engine.sequencer;
+
+/**
+ * How a consumer waits for producers to publish the next sequence.
+ */
+public interface WaitStrategy {
+
+    long waitFor(long sequence, Sequence cursor, SequenceBarrier barrier)
+        throws AlertException, InterruptedException;
+
+    void signalAllWhenBlocking();
+}
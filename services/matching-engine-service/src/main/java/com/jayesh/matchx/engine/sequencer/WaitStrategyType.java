@@ -0,0 +1,17 @@
+package com.jayesh.matchx.engine.sequencer;
+
+public enum WaitStrategyType {
+    BLOCKING,
+    YIELDING,
+    BUSY_SPIN,
+    SLEEPING;
+
+    public WaitStrategy create() {
+        return switch (this) {
+            case BLOCKING -> new BlockingWaitStrategy();
+            case YIELDING -> new YieldingWaitStrategy();
+            case BUSY_SPIN -> new BusySpinWaitStrategy();
+            case SLEEPING -> new SleepingWaitStrategy();
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.jayesh.matchx.engine.sequencer;
+
+/**
+ * Spins briefly, then yields the CPU between checks. Low latency without pinning a core at 100%.
+ */
+public final class YieldingWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    public long waitFor(long sequence, Sequence cursor, SequenceBarrier barrier) throws AlertException {
+        long available;
+        int counter = SPIN_TRIES;
+        while ((available = cursor.get()) < sequence) {
+            barrier.checkAlert();
+            if (counter > 0) {
+                counter--;
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+    }
+}
@@ -0,0 +1,42 @@
+package com.jayesh.matchx.engine.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sequential view over a verified snapshot body.
+ */
+public final class SnapshotReader {
+    private final ByteBuffer buffer;
+    private final long sequence;
+
+    SnapshotReader(ByteBuffer buffer, long sequence) {
+        this.buffer = buffer;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Journal sequence of the last command reflected in the snapshot.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public byte getByte() {
+        return buffer.get();
+    }
+
+    public int getInt() {
+        return buffer.getInt();
+    }
+
+    public long getLong() {
+        return buffer.getLong();
+    }
+
+    public String getString() {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
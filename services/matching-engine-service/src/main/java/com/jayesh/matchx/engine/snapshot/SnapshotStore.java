@@ -0,0 +1,203 @@
+package com.jayesh.matchx.engine.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot files of one matching shard. The shard serializes its state into the reusable
+ * {@link SnapshotWriter} between batches; writing, fsyncing and pruning happen on a background
+ * thread so matching only pauses for the in-memory copy.
+ *
+ * <pre>
+ * file := magic:int version:int sequence:long length:int body[length] crc32c(body):int
+ * </pre>
+ *
+ * Files are written under a temporary name and atomically renamed, named after the journal
+ * sequence they reflect.
+ */
+public final class SnapshotStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotStore.class);
+
+    private static final int MAGIC = 0x4D58534E;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 20;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long intervalNanos;
+    private final int retain;
+    private final SnapshotWriter writer = new SnapshotWriter(1 << 20);
+    private final ExecutorService executor;
+    private volatile boolean writing;
+    private long lastSequence;
+    private long lastSnapshotNanos = System.nanoTime();
+
+    public SnapshotStore(Path directory, long intervalMillis, int retain, String threadName) {
+        this.directory = directory;
+        this.intervalNanos = intervalMillis * 1_000_000L;
+        this.retain = Math.max(1, retain);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create snapshot directory " + directory, e);
+        }
+    }
+
+    /**
+     * Whether the shard should snapshot now: the interval has elapsed, the journal has moved on
+     * since the last snapshot and the previous snapshot has finished writing.
+     */
+    public boolean isDue(long sequence) {
+        return !writing
+            && sequence > lastSequence
+            && System.nanoTime() - lastSnapshotNanos >= intervalNanos;
+    }
+
+    /**
+     * Returns the emptied writer. Only valid while no snapshot is being written.
+     */
+    public SnapshotWriter begin() {
+        writer.reset();
+        return writer;
+    }
+
+    /**
+     * Hands the filled writer to the background thread. Once the snapshot is on disk and older
+     * ones are pruned, {@code onDurable} runs there with the sequence of the oldest snapshot still
+     * retained, so the journal is only truncated up to a point every fallback can replay from.
+     */
+    public void publish(long sequence, LongConsumer onDurable) {
+        writing = true;
+        lastSequence = sequence;
+        lastSnapshotNanos = System.nanoTime();
+        executor.execute(() -> write(sequence, onDurable));
+    }
+
+    /**
+     * Loads the newest snapshot that passes its checksum, or returns {@code null} if there is none.
+     */
+    public SnapshotReader loadLatest() {
+        List<Path> snapshots = snapshots();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path file = snapshots.get(i);
+            try {
+                SnapshotReader reader = read(file);
+                if (reader != null) {
+                    lastSequence = reader.getSequence();
+                    return reader;
+                }
+                logger.warn("Ignoring corrupt snapshot {}", file);
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable snapshot {}", file, e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(long sequence, LongConsumer onDurable) {
+        long start = System.nanoTime();
+        Path file = directory.resolve(String.format("%020d%s", sequence, SNAPSHOT_SUFFIX));
+        Path temp = directory.resolve(file.getFileName() + TEMP_SUFFIX);
+        try {
+            ByteBuffer body = writer.buffer().duplicate().flip();
+            CRC32C checksum = new CRC32C();
+            checksum.update(body.duplicate());
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(sequence)
+                .putInt(body.remaining())
+                .flip();
+            ByteBuffer trailer = ByteBuffer.allocate(4).putInt((int) checksum.getValue()).flip();
+            ByteBuffer[] parts = {header, body, trailer};
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (trailer.hasRemaining()) {
+                    channel.write(parts);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            onDurable.accept(prune());
+            logger.info("Wrote snapshot {} ({} bytes) in {} ms",
+                file, HEADER_SIZE + body.limit() + 4, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write snapshot {}", file, e);
+        } finally {
+            writing = false;
+        }
+    }
+
+    private SnapshotReader read(Path file) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (content.remaining() < HEADER_SIZE + 4 || content.getInt() != MAGIC || content.getInt() != VERSION) {
+            return null;
+        }
+        long sequence = content.getLong();
+        int length = content.getInt();
+        if (length < 0 || length != content.remaining() - 4) {
+            return null;
+        }
+        ByteBuffer body = content.slice(HEADER_SIZE, length);
+        CRC32C checksum = new CRC32C();
+        checksum.update(body.duplicate());
+        if ((int) checksum.getValue() != content.getInt(HEADER_SIZE + length)) {
+            return null;
+        }
+        return new SnapshotReader(body, sequence);
+    }
+
+    private long prune() throws IOException {
+        List<Path> snapshots = snapshots();
+        int oldest = Math.max(0, snapshots.size() - retain);
+        for (int i = 0; i < oldest; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+        String name = snapshots.get(oldest).getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+    private List<Path> snapshots() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list snapshot directory " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.jayesh.matchx.engine.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Growable heap buffer the matching thread serializes shard state into. It is reused between
+ * snapshots and handed to the background writer once filled.
+ */
+public final class SnapshotWriter {
+    private ByteBuffer buffer;
+
+    SnapshotWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    void reset() {
+        buffer.clear();
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int position() {
+        return buffer.position();
+    }
+
+    public void putByte(byte value) {
+        ensureCapacity(1);
+        buffer.put(value);
+    }
+
+    public void putInt(int value) {
+        ensureCapacity(4);
+        buffer.putInt(value);
+    }
+
+    public void putInt(int index, int value) {
+        buffer.putInt(index, value);
+    }
+
+    public void putLong(long value) {
+        ensureCapacity(8);
+        buffer.putLong(value);
+    }
+
+    public void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(4 + bytes.length);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+}
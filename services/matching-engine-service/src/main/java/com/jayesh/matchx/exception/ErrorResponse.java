@@ -0,0 +1,40 @@
+package com.jayesh.matchx.exception;
+
+import java.time.Instant;
+
+public class ErrorResponse {
+
+    private Instant timestamp;
+    private int status;
+    private String message;
+
+    public ErrorResponse(Instant timestamp, int status, String message) {
+        this.timestamp = timestamp;
+        this.status = status;
+        this.message = message;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
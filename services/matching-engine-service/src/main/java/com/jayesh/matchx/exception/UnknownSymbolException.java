@@ -0,0 +1,8 @@
+package com.jayesh.matchx.exception;
+
+public class UnknownSymbolException extends RuntimeException {
+
+    public UnknownSymbolException(String symbol) {
+        super("Unknown symbol: " + symbol);
+    }
+}
@@ -0,0 +1,96 @@
+package com.jayesh.matchx.gateway;
+
+import com.jayesh.matchx.model.Trade;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders entered through the gateway that can still fill, keyed by engine order id, so that the
+ * fills the engine publishes can be routed back to the owning session. Orders are registered on
+ * the matching thread before they match. Each entry counts the quantity still expected to fill:
+ * fills on the publisher thread and cancels or unfilled remainders reported from other threads
+ * both draw it down, in whatever order they arrive, and the entry goes once nothing is left.
+ */
+@Component
+public class GatewayOrders {
+
+    private final Map<Long, GatewayOrder> orders = new ConcurrentHashMap<>();
+
+    void register(long orderId, GatewaySession session, long clientOrderId, long quantity) {
+        orders.put(orderId, new GatewayOrder(session, clientOrderId, quantity));
+    }
+
+    boolean isOwnedBy(long orderId, GatewaySession session) {
+        GatewayOrder order = orders.get(orderId);
+        return order != null && order.session == session;
+    }
+
+    void remove(long orderId) {
+        orders.remove(orderId);
+    }
+
+    /**
+     * Records that {@code unfilledQuantity} of the order will never fill, because it was
+     * cancelled or did not rest.
+     */
+    void close(long orderId, long unfilledQuantity) {
+        orders.computeIfPresent(orderId, (id, order) -> order.drawDown(unfilledQuantity) ? null : order);
+    }
+
+    /**
+     * {@link com.jayesh.matchx.engine.MatchingEngine.CancelListener} for cancels from any entry
+     * point, so orders cancelled over REST stop being tracked too.
+     */
+    public void onCancelled(String symbol, long orderId, long remainingQuantity) {
+        close(orderId, remainingQuantity);
+    }
+
+    void removeSession(GatewaySession session) {
+        orders.values().removeIf(order -> order.session == session);
+    }
+
+    /**
+     * Sends a FILL for every side of {@code trades} that belongs to a gateway session.
+     */
+    public void onTrades(List<Trade> trades) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        for (Trade trade : trades) {
+            fill(trade.getBuyOrderId(), trade);
+            fill(trade.getSellOrderId(), trade);
+        }
+    }
+
+    private void fill(long orderId, Trade trade) {
+        GatewayOrder order = orders.get(orderId);
+        if (order == null) {
+            return;
+        }
+        close(orderId, trade.getQuantity());
+        order.session.sendFill(order.clientOrderId, orderId, trade.getTradeId(), trade.getPrice(), trade.getQuantity());
+    }
+
+    private static final class GatewayOrder {
+        private final GatewaySession session;
+        private final long clientOrderId;
+        private long remainingQuantity;
+
+        private GatewayOrder(GatewaySession session, long clientOrderId, long remainingQuantity) {
+            this.session = session;
+            this.clientOrderId = clientOrderId;
+            this.remainingQuantity = remainingQuantity;
+        }
+
+        /**
+         * Returns whether nothing is left to fill. Only called under the map's lock for this key.
+         */
+        private boolean drawDown(long quantity) {
+            remainingQuantity -= quantity;
+            return remainingQuantity <= 0;
+        }
+    }
+}
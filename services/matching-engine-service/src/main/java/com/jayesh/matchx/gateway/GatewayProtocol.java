@@ -0,0 +1,83 @@
+package com.jayesh.matchx.gateway;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-layout binary messages of the order-entry gateway. Integers are big-endian; prices and
+ * quantities are in instrument ticks and lots, as used by the engine.
+ *
+ * <pre>
+ * frame      := length:short type:byte body     (length counts type and body)
+ * NEW_ORDER  := clientOrderId:long symbol:ascii[16] side:byte price:long quantity:long
+ * CANCEL     := clientOrderId:long symbol:ascii[16] orderId:long
+ * ACK        := clientOrderId:long orderId:long status:byte remainingQuantity:long
+ * FILL       := clientOrderId:long orderId:long tradeId:long price:long quantity:long
+ * REJECT     := clientOrderId:long reason:byte
+ * </pre>
+ *
+ * Symbols are NUL-padded, sides and statuses are enum ordinals. Requests may be pipelined; each
+ * gets exactly one ACK or REJECT, and the FILLs of an aggressive order may arrive before its ACK.
+ */
+public final class GatewayProtocol {
+    public static final int HEADER_SIZE = 2;
+    public static final int SYMBOL_SIZE = 16;
+
+    public static final byte NEW_ORDER = 1;
+    public static final byte CANCEL = 2;
+    public static final byte ACK = 3;
+    public static final byte FILL = 4;
+    public static final byte REJECT = 5;
+
+    public static final int NEW_ORDER_LENGTH = 1 + 8 + SYMBOL_SIZE + 1 + 8 + 8;
+    public static final int CANCEL_LENGTH = 1 + 8 + SYMBOL_SIZE + 8;
+    public static final int ACK_LENGTH = 1 + 8 + 8 + 1 + 8;
+    public static final int FILL_LENGTH = 1 + 8 + 8 + 8 + 8 + 8;
+    public static final int REJECT_LENGTH = 1 + 8 + 1;
+    static final int MAX_REQUEST_LENGTH = Math.max(NEW_ORDER_LENGTH, CANCEL_LENGTH);
+
+    public static final byte REJECT_INVALID = 1;
+    public static final byte REJECT_UNKNOWN_ORDER = 2;
+    public static final byte REJECT_BUSY = 3;
+    public static final byte REJECT_INTERNAL = 4;
+
+    private GatewayProtocol() {
+    }
+
+    public static void putNewOrder(ByteBuffer out, long clientOrderId, String symbol, byte side, long price, long quantity) {
+        out.putShort((short) NEW_ORDER_LENGTH).put(NEW_ORDER).putLong(clientOrderId);
+        putSymbol(out, symbol);
+        out.put(side).putLong(price).putLong(quantity);
+    }
+
+    public static void putCancel(ByteBuffer out, long clientOrderId, String symbol, long orderId) {
+        out.putShort((short) CANCEL_LENGTH).put(CANCEL).putLong(clientOrderId);
+        putSymbol(out, symbol);
+        out.putLong(orderId);
+    }
+
+    static void putAck(ByteBuffer out, long clientOrderId, long orderId, byte status, long remainingQuantity) {
+        out.putShort((short) ACK_LENGTH).put(ACK)
+            .putLong(clientOrderId).putLong(orderId).put(status).putLong(remainingQuantity);
+    }
+
+    static void putFill(ByteBuffer out, long clientOrderId, long orderId, long tradeId, long price, long quantity) {
+        out.putShort((short) FILL_LENGTH).put(FILL)
+            .putLong(clientOrderId).putLong(orderId).putLong(tradeId).putLong(price).putLong(quantity);
+    }
+
+    static void putReject(ByteBuffer out, long clientOrderId, byte reason) {
+        out.putShort((short) REJECT_LENGTH).put(REJECT).putLong(clientOrderId).put(reason);
+    }
+
+    private static void putSymbol(ByteBuffer out, String symbol) {
+        byte[] bytes = symbol.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > SYMBOL_SIZE) {
+            throw new IllegalArgumentException("Symbol longer than " + SYMBOL_SIZE + " bytes: " + symbol);
+        }
+        out.put(bytes);
+        for (int i = bytes.length; i < SYMBOL_SIZE; i++) {
+            out.put((byte) 0);
+        }
+    }
+}
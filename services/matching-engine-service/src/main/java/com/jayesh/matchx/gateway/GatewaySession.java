@@ -0,0 +1,161 @@
+package com.jayesh.matchx.gateway;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * One client connection. Requests are decoded on the gateway's selector thread; responses are
+ * appended to the send buffer by whichever thread produced them, and written by the selector
+ * thread, so neither matching nor publishing threads ever touch the socket.
+ */
+final class GatewaySession {
+    private static final Logger logger = LoggerFactory.getLogger(GatewaySession.class);
+
+    private final long id;
+    private final SocketChannel channel;
+    private final OrderGateway gateway;
+    private final ByteBuffer in;
+    private final ByteBuffer out;
+    private final byte[] symbolBytes = new byte[GatewayProtocol.SYMBOL_SIZE];
+    private final byte[] lastSymbolBytes = new byte[GatewayProtocol.SYMBOL_SIZE];
+    private String lastSymbol;
+    private SelectionKey key;
+    private boolean flushRequested;
+    private volatile boolean closed;
+
+    GatewaySession(long id, SocketChannel channel, OrderGateway gateway, int receiveBufferSize, int sendBufferSize) {
+        this.id = id;
+        this.channel = channel;
+        this.gateway = gateway;
+        this.in = ByteBuffer.allocateDirect(receiveBufferSize);
+        this.out = ByteBuffer.allocateDirect(sendBufferSize);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    ByteBuffer getReceiveBuffer() {
+        return in;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Reads what the socket has into the receive buffer, returning {@code false} at end of stream.
+     */
+    boolean read() throws IOException {
+        return channel.read(in) >= 0;
+    }
+
+    /**
+     * Reads the NUL-padded symbol at the buffer's position, reusing the previous string when the
+     * bytes repeat, as they do for most flow on a session.
+     */
+    String readSymbol(ByteBuffer buffer) {
+        buffer.get(symbolBytes);
+        if (lastSymbol != null && Arrays.equals(symbolBytes, lastSymbolBytes)) {
+            return lastSymbol;
+        }
+        int length = 0;
+        while (length < symbolBytes.length && symbolBytes[length] != 0) {
+            length++;
+        }
+        System.arraycopy(symbolBytes, 0, lastSymbolBytes, 0, symbolBytes.length);
+        lastSymbol = new String(symbolBytes, 0, length, StandardCharsets.US_ASCII);
+        return lastSymbol;
+    }
+
+    void sendAck(long clientOrderId, long orderId, byte status, long remainingQuantity) {
+        synchronized (out) {
+            if (reserve(GatewayProtocol.HEADER_SIZE + GatewayProtocol.ACK_LENGTH)) {
+                GatewayProtocol.putAck(out, clientOrderId, orderId, status, remainingQuantity);
+                requestFlush();
+            }
+        }
+    }
+
+    void sendFill(long clientOrderId, long orderId, long tradeId, long price, long quantity) {
+        synchronized (out) {
+            if (reserve(GatewayProtocol.HEADER_SIZE + GatewayProtocol.FILL_LENGTH)) {
+                GatewayProtocol.putFill(out, clientOrderId, orderId, tradeId, price, quantity);
+                requestFlush();
+            }
+        }
+    }
+
+    void sendReject(long clientOrderId, byte reason) {
+        synchronized (out) {
+            if (reserve(GatewayProtocol.HEADER_SIZE + GatewayProtocol.REJECT_LENGTH)) {
+                GatewayProtocol.putReject(out, clientOrderId, reason);
+                requestFlush();
+            }
+        }
+    }
+
+    /**
+     * Writes pending responses. Called on the selector thread; leaves write interest set while
+     * the socket cannot take everything.
+     */
+    void flush() throws IOException {
+        synchronized (out) {
+            flushRequested = false;
+            if (closed) {
+                return;
+            }
+            out.flip();
+            channel.write(out);
+            out.compact();
+            key.interestOps(out.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+    }
+
+    void close() {
+        synchronized (out) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.debug("Error closing gateway session {}", id, e);
+        }
+    }
+
+    private boolean reserve(int size) {
+        if (closed) {
+            return false;
+        }
+        if (out.remaining() < size) {
+            logger.warn("Gateway session {} is not reading its responses; disconnecting", id);
+            gateway.requestClose(this);
+            return false;
+        }
+        return true;
+    }
+
+    private void requestFlush() {
+        if (!flushRequested) {
+            flushRequested = true;
+            gateway.requestFlush(this);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.jayesh.matchx.gateway;
+
+import com.jayesh.matchx.config.GatewayProperties;
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.OrderStatus;
+import com.jayesh.matchx.service.InstrumentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Binary order-entry gateway, see {@link GatewayProtocol}. A single selector thread accepts
+ * sessions and decodes every complete request in what it reads, submitting each straight to the
+ * {@link MatchingEngine} without waiting for earlier ones, so clients can pipeline.
+ */
+@Component
+@ConditionalOnProperty(prefix = "matchx.gateway", name = "enabled", havingValue = "true")
+public class OrderGateway implements SmartLifecycle, Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(OrderGateway.class);
+
+    private static final OrderSide[] SIDES = OrderSide.values();
+
+    private final GatewayProperties properties;
+    private final MatchingEngine matchingEngine;
+    private final GatewayOrders orders;
+    private final InstrumentService instrumentService;
+    private final Queue<GatewaySession> flushQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<GatewaySession> closeQueue = new ConcurrentLinkedQueue<>();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private long nextSessionId;
+    private volatile boolean running;
+
+    public OrderGateway(GatewayProperties properties, MatchingEngine matchingEngine, GatewayOrders orders,
+                        InstrumentService instrumentService) {
+        this.properties = properties;
+        this.matchingEngine = matchingEngine;
+        this.orders = orders;
+        this.instrumentService = instrumentService;
+    }
+
+    @Override
+    public void start() {
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(properties.getHost(), properties.getPort()));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start order gateway on port " + properties.getPort(), e);
+        }
+        running = true;
+        thread = new Thread(this, "order-gateway");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Order gateway listening on {}:{}", properties.getHost(), properties.getPort());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Actual bound port, which differs from the configured one when that is 0.
+     */
+    public int getLocalPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    void requestFlush(GatewaySession session) {
+        flushQueue.add(session);
+        selector.wakeup();
+    }
+
+    void requestClose(GatewaySession session) {
+        closeQueue.add(session);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        GatewaySession session = (GatewaySession) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                read(session);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                session.flush();
+                            }
+                        } catch (IOException e) {
+                            logger.debug("Gateway session {} failed", session.getId(), e);
+                            close(session);
+                        }
+                    }
+                }
+                drainQueues();
+            } catch (IOException e) {
+                logger.error("Order gateway selector failed", e);
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof GatewaySession session) {
+                close(session);
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            logger.debug("Error closing order gateway", e);
+        }
+        logger.info("Order gateway stopped");
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        GatewaySession session = new GatewaySession(++nextSessionId, channel, this,
+            properties.getReceiveBufferSize(), properties.getSendBufferSize());
+        session.setKey(channel.register(selector, SelectionKey.OP_READ, session));
+        logger.info("Gateway session {} connected from {}", session.getId(), channel.getRemoteAddress());
+    }
+
+    private void drainQueues() {
+        GatewaySession session;
+        while ((session = closeQueue.poll()) != null) {
+            close(session);
+        }
+        while ((session = flushQueue.poll()) != null) {
+            try {
+                session.flush();
+            } catch (IOException e) {
+                logger.debug("Gateway session {} failed", session.getId(), e);
+                close(session);
+            }
+        }
+    }
+
+    private void close(GatewaySession session) {
+        if (!session.isClosed()) {
+            session.close();
+            orders.removeSession(session);
+            logger.info("Gateway session {} disconnected", session.getId());
+        }
+    }
+
+    private void read(GatewaySession session) throws IOException {
+        if (!session.read()) {
+            close(session);
+            return;
+        }
+        ByteBuffer in = session.getReceiveBuffer();
+        in.flip();
+        while (in.remaining() >= GatewayProtocol.HEADER_SIZE) {
+            int length = Short.toUnsignedInt(in.getShort(in.position()));
+            if (length > GatewayProtocol.MAX_REQUEST_LENGTH) {
+                logger.warn("Gateway session {} sent an oversized message; disconnecting", session.getId());
+                close(session);
+                return;
+            }
+            if (in.remaining() < GatewayProtocol.HEADER_SIZE + length) {
+                break;
+            }
+            int start = in.position() + GatewayProtocol.HEADER_SIZE;
+            in.position(start);
+            if (!dispatch(session, in, length)) {
+                logger.warn("Gateway session {} sent a malformed message; disconnecting", session.getId());
+                close(session);
+                return;
+            }
+            in.position(start + length);
+        }
+        in.compact();
+    }
+
+    private boolean dispatch(GatewaySession session, ByteBuffer in, int length) {
+        if (length < 1) {
+            return false;
+        }
+        byte type = in.get();
+        if (type == GatewayProtocol.NEW_ORDER && length == GatewayProtocol.NEW_ORDER_LENGTH) {
+            onNewOrder(session, in);
+            return true;
+        }
+        if (type == GatewayProtocol.CANCEL && length == GatewayProtocol.CANCEL_LENGTH) {
+            onCancel(session, in);
+            return true;
+        }
+        return false;
+    }
+
+    private void onNewOrder(GatewaySession session, ByteBuffer in) {
+        long clientOrderId = in.getLong();
+        String symbol = session.readSymbol(in);
+        byte side = in.get();
+        long price = in.getLong();
+        long quantity = in.getLong();
+        if (instrumentService.findInstrument(symbol) == null || side < 0 || side >= SIDES.length || price <= 0 || quantity <= 0) {
+            session.sendReject(clientOrderId, GatewayProtocol.REJECT_INVALID);
+            return;
+        }
+        long[] accepted = new long[1];
+        matchingEngine.submitOrder(symbol, SIDES[side], price, quantity,
+                orderId -> {
+                    accepted[0] = orderId;
+                    orders.register(orderId, session, clientOrderId, quantity);
+                })
+            .whenComplete((report, failure) -> {
+                if (failure != null) {
+                    if (accepted[0] != 0) {
+                        orders.remove(accepted[0]);
+                    }
+                    session.sendReject(clientOrderId, rejectReason(failure));
+                } else {
+                    if (report.status() != OrderStatus.OPEN && report.status() != OrderStatus.PARTIALLY_FILLED) {
+                        orders.close(report.id(), report.remainingQuantity());
+                    }
+                    session.sendAck(clientOrderId, report.id(), (byte) report.status().ordinal(), report.remainingQuantity());
+                }
+            });
+    }
+
+    private void onCancel(GatewaySession session, ByteBuffer in) {
+        long clientOrderId = in.getLong();
+        String symbol = session.readSymbol(in);
+        long orderId = in.getLong();
+        if (!orders.isOwnedBy(orderId, session)) {
+            session.sendReject(clientOrderId, GatewayProtocol.REJECT_UNKNOWN_ORDER);
+            return;
+        }
+        matchingEngine.cancelOrder(orderId, symbol)
+            .whenComplete((cancelled, failure) -> {
+                if (failure != null) {
+                    session.sendReject(clientOrderId, rejectReason(failure));
+                } else if (cancelled) {
+                    session.sendAck(clientOrderId, orderId, (byte) OrderStatus.CANCELLED.ordinal(), 0);
+                } else {
+                    session.sendReject(clientOrderId, GatewayProtocol.REJECT_UNKNOWN_ORDER);
+                }
+            });
+    }
+
+    private static byte rejectReason(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause()
+            : failure;
+        return cause instanceof RejectedExecutionException
+            ? GatewayProtocol.REJECT_BUSY
+            : GatewayProtocol.REJECT_INTERNAL;
+    }
+}
@@ -0,0 +1,96 @@
+package com.jayesh.matchx.model;
+
+import java.math.BigDecimal;
+
+public class Instrument {
+    private final String symbol;
+    private final BigDecimal tickSize;
+    private final BigDecimal lotSize;
+    private final long fixedTickSize;
+    private final int priceScale;
+    private final long fixedLotSize;
+    private final int quantityScale;
+
+    public Instrument(String symbol, BigDecimal tickSize, BigDecimal lotSize) {
+        if (tickSize == null || tickSize.signum() <= 0) {
+            throw new IllegalArgumentException("Tick size for " + symbol + " must be positive");
+        }
+        if (lotSize == null || lotSize.signum() <= 0) {
+            throw new IllegalArgumentException("Lot size for " + symbol + " must be positive");
+        }
+        this.symbol = symbol;
+        this.tickSize = tickSize;
+        this.lotSize = lotSize;
+        BigDecimal tick = fixedPointUnit(tickSize);
+        BigDecimal lot = fixedPointUnit(lotSize);
+        this.fixedTickSize = tick.unscaledValue().longValueExact();
+        this.priceScale = tick.scale();
+        this.fixedLotSize = lot.unscaledValue().longValueExact();
+        this.quantityScale = lot.scale();
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public BigDecimal getTickSize() {
+        return tickSize;
+    }
+
+    public BigDecimal getLotSize() {
+        return lotSize;
+    }
+
+    public long toTicks(BigDecimal price) {
+        return toUnits(price, tickSize, "Price");
+    }
+
+    public long toLots(BigDecimal quantity) {
+        return toUnits(quantity, lotSize, "Quantity");
+    }
+
+    public BigDecimal toPrice(long ticks) {
+        return tickSize.multiply(BigDecimal.valueOf(ticks));
+    }
+
+    public BigDecimal toQuantity(long lots) {
+        return lotSize.multiply(BigDecimal.valueOf(lots));
+    }
+
+    /**
+     * Decimal places of {@link #toFixedPrice}, so that a price is {@code fixedPrice * 10^-scale}.
+     */
+    public int getPriceScale() {
+        return priceScale;
+    }
+
+    public int getQuantityScale() {
+        return quantityScale;
+    }
+
+    public long toFixedPrice(long ticks) {
+        return Math.multiplyExact(ticks, fixedTickSize);
+    }
+
+    public long toFixedQuantity(long lots) {
+        return Math.multiplyExact(lots, fixedLotSize);
+    }
+
+    private static BigDecimal fixedPointUnit(BigDecimal unit) {
+        BigDecimal stripped = unit.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    private long toUnits(BigDecimal value, BigDecimal unit, String name) {
+        BigDecimal[] quotientAndRemainder = value.divideAndRemainder(unit);
+        if (quotientAndRemainder[1].signum() != 0) {
+            throw new IllegalArgumentException(
+                name + " " + value.toPlainString() + " is not a multiple of " + unit.toPlainString() + " for " + symbol);
+        }
+        try {
+            return quotientAndRemainder[0].longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(name + " " + value.toPlainString() + " is out of range for " + symbol);
+        }
+    }
+}
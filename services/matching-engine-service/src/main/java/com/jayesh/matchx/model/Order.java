@@ -1,31 +1,45 @@
 package com.jayesh.matchx.model;
 
-import java.math.BigDecimal;
-import java.time.Instant;
-import java.util.UUID;
+import com.jayesh.matchx.util.EpochClock;
 
 public class Order {
-    private final String id;
-    private final String symbol;
-    private final OrderSide side;
-    private final BigDecimal price;
-    private final BigDecimal quantity;
-    private BigDecimal remainingQuantity;
-    private final Instant timestamp;
+    private long id;
+    private String symbol;
+    private OrderSide side;
+    private long price;
+    private long quantity;
+    private long remainingQuantity;
+    private long timestamp;
     private OrderStatus status;
+    private Order previous;
+    private Order next;
 
-    public Order(String symbol, OrderSide side, BigDecimal price, BigDecimal quantity) {
-        this.id = UUID.randomUUID().toString();
+    public Order() {
+    }
+
+    public Order(long id, String symbol, OrderSide side, long price, long quantity) {
+        init(id, symbol, side, price, quantity);
+    }
+
+    public Order init(long id, String symbol, OrderSide side, long price, long quantity) {
+        return init(id, symbol, side, price, quantity, EpochClock.epochNanos());
+    }
+
+    public Order init(long id, String symbol, OrderSide side, long price, long quantity, long timestamp) {
+        this.id = id;
         this.symbol = symbol;
         this.side = side;
         this.price = price;
         this.quantity = quantity;
         this.remainingQuantity = quantity;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
         this.status = OrderStatus.OPEN;
+        this.previous = null;
+        this.next = null;
+        return this;
     }
 
-    public String getId() {
+    public long getId() {
         return id;
     }
 
@@ -37,23 +51,23 @@ public class Order {
         return side;
     }
 
-    public BigDecimal getPrice() {
+    public long getPrice() {
         return price;
     }
 
-    public BigDecimal getQuantity() {
+    public long getQuantity() {
         return quantity;
     }
 
-    public BigDecimal getRemainingQuantity() {
+    public long getRemainingQuantity() {
         return remainingQuantity;
     }
 
-    public void setRemainingQuantity(BigDecimal remainingQuantity) {
+    public void setRemainingQuantity(long remainingQuantity) {
         this.remainingQuantity = remainingQuantity;
     }
 
-    public Instant getTimestamp() {
+    public long getTimestamp() {
         return timestamp;
     }
 
@@ -65,8 +79,24 @@ public class Order {
         this.status = status;
     }
 
+    public Order getPrevious() {
+        return previous;
+    }
+
+    public void setPrevious(Order previous) {
+        this.previous = previous;
+    }
+
+    public Order getNext() {
+        return next;
+    }
+
+    public void setNext(Order next) {
+        this.next = next;
+    }
+
     public boolean isFullyFilled() {
-        return remainingQuantity.compareTo(BigDecimal.ZERO) == 0;
+        return remainingQuantity == 0;
     }
 
     public boolean isOpen() {
@@ -1,21 +1,25 @@
 package com.jayesh.matchx.model;
 
-import java.math.BigDecimal;
-
 public class OrderBookEntry {
-    private final BigDecimal price;
-    private final BigDecimal quantity;
+    private final long price;
+    private final long quantity;
+    private final int orderCount;
 
-    public OrderBookEntry(BigDecimal price, BigDecimal quantity) {
+    public OrderBookEntry(long price, long quantity, int orderCount) {
         this.price = price;
         this.quantity = quantity;
+        this.orderCount = orderCount;
     }
 
-    public BigDecimal getPrice() {
+    public long getPrice() {
         return price;
     }
 
-    public BigDecimal getQuantity() {
+    public long getQuantity() {
         return quantity;
     }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
 }
@@ -0,0 +1,29 @@
+package com.jayesh.matchx.model;
+
+/**
+ * Immutable copy of an order's state, safe to hand to other threads after the engine has moved on
+ * or recycled the {@link Order} itself.
+ */
+public record OrderReport(
+    long id,
+    String symbol,
+    OrderSide side,
+    long price,
+    long quantity,
+    long remainingQuantity,
+    OrderStatus status,
+    long timestamp
+) {
+    public static OrderReport of(Order order) {
+        return new OrderReport(
+            order.getId(),
+            order.getSymbol(),
+            order.getSide(),
+            order.getPrice(),
+            order.getQuantity(),
+            order.getRemainingQuantity(),
+            order.getStatus(),
+            order.getTimestamp()
+        );
+    }
+}
@@ -1,30 +1,54 @@
 package com.jayesh.matchx.model;
 
-import java.math.BigDecimal;
-import java.time.Instant;
-import java.util.UUID;
+import com.jayesh.matchx.util.EpochClock;
 
 public class Trade {
-    private final String tradeId;
-    private final String symbol;
-    private final BigDecimal price;
-    private final BigDecimal quantity;
-    private final String buyOrderId;
-    private final String sellOrderId;
-    private final Instant timestamp;
-
-    public Trade(String symbol, BigDecimal price, BigDecimal quantity, 
-                 String buyOrderId, String sellOrderId) {
-        this.tradeId = UUID.randomUUID().toString();
+    private long tradeId;
+    private String symbol;
+    private long sequence;
+    private long price;
+    private long quantity;
+    private long buyOrderId;
+    private long sellOrderId;
+    private OrderSide takerSide;
+    private long timestamp;
+
+    public Trade() {
+    }
+
+    public Trade(long tradeId, String symbol, long sequence, long price, long quantity,
+                 long buyOrderId, long sellOrderId, OrderSide takerSide) {
+        init(tradeId, symbol, sequence, price, quantity, buyOrderId, sellOrderId, takerSide);
+    }
+
+    public Trade init(long tradeId, String symbol, long sequence, long price, long quantity,
+                      long buyOrderId, long sellOrderId, OrderSide takerSide) {
+        this.tradeId = tradeId;
         this.symbol = symbol;
+        this.sequence = sequence;
         this.price = price;
         this.quantity = quantity;
         this.buyOrderId = buyOrderId;
         this.sellOrderId = sellOrderId;
-        this.timestamp = Instant.now();
+        this.takerSide = takerSide;
+        this.timestamp = EpochClock.epochNanos();
+        return this;
+    }
+
+    public Trade copyFrom(Trade other) {
+        this.tradeId = other.tradeId;
+        this.symbol = other.symbol;
+        this.sequence = other.sequence;
+        this.price = other.price;
+        this.quantity = other.quantity;
+        this.buyOrderId = other.buyOrderId;
+        this.sellOrderId = other.sellOrderId;
+        this.takerSide = other.takerSide;
+        this.timestamp = other.timestamp;
+        return this;
     }
 
-    public String getTradeId() {
+    public long getTradeId() {
         return tradeId;
     }
 
@@ -32,23 +56,38 @@ public class Trade {
         return symbol;
     }
 
-    public BigDecimal getPrice() {
+    /**
+     * Per-symbol trade sequence, starting at 1 and increasing by one with every fill.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getPrice() {
         return price;
     }
 
-    public BigDecimal getQuantity() {
+    public long getQuantity() {
         return quantity;
     }
 
-    public String getBuyOrderId() {
+    public long getBuyOrderId() {
         return buyOrderId;
     }
 
-    public String getSellOrderId() {
+    public long getSellOrderId() {
         return sellOrderId;
     }
 
-    public Instant getTimestamp() {
+    public OrderSide getTakerSide() {
+        return takerSide;
+    }
+
+    public long getTakerOrderId() {
+        return takerSide == OrderSide.BUY ? buyOrderId : sellOrderId;
+    }
+
+    public long getTimestamp() {
         return timestamp;
     }
 }
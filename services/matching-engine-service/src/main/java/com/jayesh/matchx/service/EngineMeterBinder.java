@@ -0,0 +1,91 @@
+package com.jayesh.matchx.service;
+
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.engine.metrics.ShardMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes every shard's stage histograms as Micrometer gauges, one per shard, stage and
+ * statistic, e.g. {@code matchx.engine.match{shard="shard-0",statistic="p99"}}. A stage is
+ * summarized at most once per second however many of its gauges a scrape reads.
+ */
+@Component
+public class EngineMeterBinder implements MeterBinder {
+    private static final long MAX_SUMMARY_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Map<String, ToDoubleFunction<ShardMetrics.Summary>> STATISTICS = Map.of(
+        "count", ShardMetrics.Summary::count,
+        "mean", ShardMetrics.Summary::mean,
+        "p50", ShardMetrics.Summary::p50,
+        "p99", ShardMetrics.Summary::p99,
+        "p999", ShardMetrics.Summary::p999,
+        "max", ShardMetrics.Summary::max
+    );
+
+    private final MatchingEngine matchingEngine;
+
+    public EngineMeterBinder(MatchingEngine matchingEngine) {
+        this.matchingEngine = matchingEngine;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        matchingEngine.getMetrics().getShards().forEach((shardName, shard) -> {
+            for (ShardMetrics.Stage stage : ShardMetrics.Stage.values()) {
+                CachedSummary summary = new CachedSummary(shard, stage);
+                STATISTICS.forEach((statistic, value) ->
+                    Gauge.builder(meterName(stage), summary, cached -> value.applyAsDouble(cached.get()))
+                        .tag("shard", shardName)
+                        .tag("statistic", statistic)
+                        .baseUnit(statistic.equals("count") ? null : baseUnit(stage))
+                        .register(registry));
+            }
+        });
+    }
+
+    private static String meterName(ShardMetrics.Stage stage) {
+        return switch (stage) {
+            case QUEUE_WAIT -> "matchx.engine.queue.wait";
+            case MATCH -> "matchx.engine.match";
+            case PUBLISH -> "matchx.engine.publish";
+            case FILLS_PER_ORDER -> "matchx.engine.fills.per.order";
+            case BOOK_DEPTH -> "matchx.engine.book.depth";
+        };
+    }
+
+    private static String baseUnit(ShardMetrics.Stage stage) {
+        return switch (stage) {
+            case QUEUE_WAIT, MATCH, PUBLISH -> "nanoseconds";
+            case FILLS_PER_ORDER -> "fills";
+            case BOOK_DEPTH -> "levels";
+        };
+    }
+
+    private static final class CachedSummary {
+        private final ShardMetrics shard;
+        private final ShardMetrics.Stage stage;
+        private ShardMetrics.Summary summary;
+        private long summarizedNanos;
+
+        private CachedSummary(ShardMetrics shard, ShardMetrics.Stage stage) {
+            this.shard = shard;
+            this.stage = stage;
+        }
+
+        synchronized ShardMetrics.Summary get() {
+            long now = System.nanoTime();
+            if (summary == null || now - summarizedNanos > MAX_SUMMARY_AGE_NANOS) {
+                summary = shard.summarize(stage);
+                summarizedNanos = now;
+            }
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jayesh.matchx.service;
+
+import com.jayesh.matchx.config.InstrumentProperties;
+import com.jayesh.matchx.exception.UnknownSymbolException;
+import com.jayesh.matchx.model.Instrument;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Instruments configured under {@code matchx.instruments.symbols}. Only those symbols are traded;
+ * requests for any other symbol are rejected before they reach the engine.
+ */
+@Service
+public class InstrumentService {
+
+    private final InstrumentProperties properties;
+    private final Map<String, Instrument> instruments = new HashMap<>();
+
+    public InstrumentService(InstrumentProperties properties) {
+        this.properties = properties;
+        properties.getSymbols().forEach((symbol, spec) -> instruments.put(symbol, createInstrument(symbol, spec)));
+    }
+
+    /**
+     * Returns the instrument of a configured symbol, or {@code null} if the symbol is not traded.
+     */
+    public Instrument findInstrument(String symbol) {
+        return instruments.get(symbol);
+    }
+
+    /**
+     * Returns the instrument of a configured symbol.
+     *
+     * @throws UnknownSymbolException if the symbol is not traded
+     */
+    public Instrument getInstrument(String symbol) {
+        Instrument instrument = instruments.get(symbol);
+        if (instrument == null) {
+            throw new UnknownSymbolException(symbol);
+        }
+        return instrument;
+    }
+
+    private Instrument createInstrument(String symbol, InstrumentProperties.Spec spec) {
+        if (spec == null) {
+            return new Instrument(symbol, properties.getDefaultTickSize(), properties.getDefaultLotSize());
+        }
+        return new Instrument(
+            symbol,
+            spec.getTickSize() != null ? spec.getTickSize() : properties.getDefaultTickSize(),
+            spec.getLotSize() != null ? spec.getLotSize() : properties.getDefaultLotSize()
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.jayesh.matchx.service;
+
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.engine.OrderBook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conflates order book updates. Every book carries a version that moves on any add, fill or
+ * cancel; once per interval the books whose version changed since their last broadcast are
+ * snapshotted once each and sent both in full and as a delta against the previous broadcast,
+ * so a burst of changes to a symbol costs at most one message per topic per interval. The
+ * symbol's ticker is sent in the same pass, and only if its best bid, best ask or last trade
+ * moved.
+ *
+ * <p>The last broadcast snapshot of each symbol is kept so REST readers can be served the exact
+ * state the next delta applies to.
+ */
+@Service
+public class OrderBookBroadcaster {
+    private static final Logger logger = LoggerFactory.getLogger(OrderBookBroadcaster.class);
+
+    private final MatchingEngine matchingEngine;
+    private final OrderBookWebSocketService webSocketService;
+    private final Map<String, OrderBook.OrderBookSnapshot> published = new ConcurrentHashMap<>();
+    private final Map<String, OrderBook.Ticker> publishedTickers = new ConcurrentHashMap<>();
+
+    public OrderBookBroadcaster(MatchingEngine matchingEngine, OrderBookWebSocketService webSocketService) {
+        this.matchingEngine = matchingEngine;
+        this.webSocketService = webSocketService;
+    }
+
+    /**
+     * The snapshot most recently broadcast for {@code symbol}, or {@code null} if none was.
+     */
+    public OrderBook.OrderBookSnapshot getPublishedSnapshot(String symbol) {
+        return published.get(symbol);
+    }
+
+    @Scheduled(fixedDelayString = "${matchx.orderbook.broadcast-interval-ms:50}")
+    public void broadcastChangedBooks() {
+        for (OrderBook orderBook : matchingEngine.getOrderBooks()) {
+            String symbol = orderBook.getSymbol();
+            OrderBook.OrderBookSnapshot previous = published.get(symbol);
+            if (previous != null && previous.sequence() == orderBook.getVersion()) {
+                continue;
+            }
+            try {
+                OrderBook.OrderBookSnapshot snapshot = matchingEngine.getOrderBookSnapshot(symbol);
+                published.put(symbol, snapshot);
+                if (previous != null) {
+                    OrderBook.OrderBookDelta delta = snapshot.deltaFrom(previous);
+                    webSocketService.broadcastOrderBookDelta(delta);
+                }
+                webSocketService.broadcastOrderBookUpdate(snapshot);
+                OrderBook.Ticker ticker = orderBook.getTicker();
+                if (publishedTickers.put(symbol, ticker) != ticker) {
+                    webSocketService.broadcastTicker(ticker);
+                }
+            } catch (Exception e) {
+                logger.error("Error broadcasting order book for {}", symbol, e);
+            }
+        }
+    }
+}
@@ -1,25 +1,52 @@
 package com.jayesh.matchx.service;
 
+import com.jayesh.matchx.dto.OrderBookDeltaDTO;
 import com.jayesh.matchx.dto.OrderBookResponseDTO;
+import com.jayesh.matchx.dto.TickerDTO;
 import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.Instrument;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Pushes book and ticker updates to STOMP subscribers. Books of symbols that are no longer
+ * configured, restored from a snapshot or journal, are not broadcast.
+ */
 @Service
 public class OrderBookWebSocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final InstrumentService instrumentService;
 
-    public OrderBookWebSocketService(SimpMessagingTemplate messagingTemplate) {
+    public OrderBookWebSocketService(SimpMessagingTemplate messagingTemplate, InstrumentService instrumentService) {
         this.messagingTemplate = messagingTemplate;
+        this.instrumentService = instrumentService;
     }
 
     public void broadcastOrderBookUpdate(OrderBook.OrderBookSnapshot snapshot) {
-        OrderBookResponseDTO response = new OrderBookResponseDTO(
-            snapshot.symbol(),
-            snapshot.bids(),
-            snapshot.asks()
-        );
+        Instrument instrument = instrumentService.findInstrument(snapshot.symbol());
+        if (instrument == null) {
+            return;
+        }
+        OrderBookResponseDTO response = OrderBookResponseDTO.fromSnapshot(snapshot, instrument);
         messagingTemplate.convertAndSend("/topic/orderbook/" + snapshot.symbol(), response);
     }
+
+    public void broadcastOrderBookDelta(OrderBook.OrderBookDelta delta) {
+        Instrument instrument = instrumentService.findInstrument(delta.symbol());
+        if (instrument == null) {
+            return;
+        }
+        OrderBookDeltaDTO response = OrderBookDeltaDTO.fromDelta(delta, instrument);
+        messagingTemplate.convertAndSend("/topic/orderbook/" + delta.symbol() + "/delta", response);
+    }
+
+    public void broadcastTicker(OrderBook.Ticker ticker) {
+        Instrument instrument = instrumentService.findInstrument(ticker.symbol());
+        if (instrument == null) {
+            return;
+        }
+        TickerDTO response = TickerDTO.fromTicker(ticker, instrument);
+        messagingTemplate.convertAndSend("/topic/ticker/" + ticker.symbol(), response);
+    }
 }
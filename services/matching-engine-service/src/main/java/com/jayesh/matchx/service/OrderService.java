@@ -1,14 +1,22 @@
 package com.jayesh.matchx.service;
 
+import com.jayesh.matchx.engine.BatchCommand;
+import com.jayesh.matchx.engine.BatchResult;
 import com.jayesh.matchx.engine.MatchingEngine;
 import com.jayesh.matchx.engine.OrderBook;
-import com.jayesh.matchx.model.Order;
-import com.jayesh.matchx.model.OrderSide;
-import com.jayesh.matchx.model.Trade;
+import com.jayesh.matchx.exception.InvalidOrderException;
+import com.jayesh.matchx.exception.UnknownSymbolException;
+import com.jayesh.matchx.model.Instrument;
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.dto.BatchOrderRequestDTO;
+import com.jayesh.matchx.dto.BatchOrderResponseDTO;
+import com.jayesh.matchx.dto.CancelRequestDTO;
+import com.jayesh.matchx.dto.CancelResponseDTO;
 import com.jayesh.matchx.dto.OrderRequestDTO;
 import com.jayesh.matchx.dto.OrderResponseDTO;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -16,37 +24,133 @@ import java.util.concurrent.CompletableFuture;
 public class OrderService {
 
     private final MatchingEngine matchingEngine;
-    private final TradePublisherService tradePublisherService;
+    private final InstrumentService instrumentService;
+    private final OrderBookBroadcaster orderBookBroadcaster;
 
-    public OrderService(MatchingEngine matchingEngine, TradePublisherService tradePublisherService) {
+    public OrderService(MatchingEngine matchingEngine, InstrumentService instrumentService,
+                        OrderBookBroadcaster orderBookBroadcaster) {
         this.matchingEngine = matchingEngine;
-        this.tradePublisherService = tradePublisherService;
+        this.instrumentService = instrumentService;
+        this.orderBookBroadcaster = orderBookBroadcaster;
     }
 
     public CompletableFuture<OrderResponseDTO> submitOrder(OrderRequestDTO request) {
-        Order order = new Order(
-            request.getSymbol(),
-            request.getSide(),
-            request.getPrice(),
-            request.getQuantity()
-        );
+        Instrument instrument = tradableInstrument(request.getSymbol());
+        return matchingEngine.submitOrder(
+                request.getSymbol(),
+                request.getSide(),
+                toTicks(instrument, request),
+                toLots(instrument, request)
+            )
+            .thenApply(report -> OrderResponseDTO.fromReport(report, instrument));
+    }
 
-        return matchingEngine.submitOrder(order)
-            .thenApply(trades -> {
-                tradePublisherService.publishTrades(trades);
-                return OrderResponseDTO.fromOrder(order);
-            });
+    public CompletableFuture<BatchOrderResponseDTO> submitBatch(BatchOrderRequestDTO request) {
+        List<CancelRequestDTO> cancels = request.getCancels();
+        List<OrderRequestDTO> orders = request.getOrders();
+        List<Instrument> instruments = new ArrayList<>(orders.size());
+        List<BatchCommand> commands = new ArrayList<>(cancels.size() + orders.size());
+        int[] cancelIndexes = new int[cancels.size()];
+        for (int i = 0; i < cancels.size(); i++) {
+            CancelRequestDTO cancel = cancels.get(i);
+            Long id = instrumentService.findInstrument(cancel.getSymbol()) != null
+                ? parseOrderId(cancel.getOrderId())
+                : null;
+            cancelIndexes[i] = id == null ? -1 : commands.size();
+            if (id != null) {
+                commands.add(BatchCommand.cancel(cancel.getSymbol(), id));
+            }
+        }
+        int firstOrder = commands.size();
+        for (OrderRequestDTO order : orders) {
+            Instrument instrument = tradableInstrument(order.getSymbol());
+            instruments.add(instrument);
+            commands.add(BatchCommand.newOrder(
+                order.getSymbol(), order.getSide(), toTicks(instrument, order), toLots(instrument, order)));
+        }
+        CompletableFuture<List<BatchResult>> submitted;
+        try {
+            submitted = matchingEngine.submitBatch(commands);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOrderException(e.getMessage());
+        }
+        return submitted.thenApply(results -> {
+            List<CancelResponseDTO> cancelResponses = new ArrayList<>(cancels.size());
+            for (int i = 0; i < cancels.size(); i++) {
+                CancelRequestDTO cancel = cancels.get(i);
+                boolean cancelled = cancelIndexes[i] >= 0 && results.get(cancelIndexes[i]).cancelled();
+                cancelResponses.add(new CancelResponseDTO(cancel.getSymbol(), cancel.getOrderId(), cancelled));
+            }
+            List<OrderResponseDTO> orderResponses = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                BatchResult result = results.get(firstOrder + i);
+                orderResponses.add(OrderResponseDTO.fromReport(result.report(), instruments.get(i)));
+            }
+            return new BatchOrderResponseDTO(cancelResponses, orderResponses);
+        });
     }
 
     public CompletableFuture<Boolean> cancelOrder(String orderId, String symbol) {
-        return matchingEngine.cancelOrder(orderId, symbol);
+        if (instrumentService.findInstrument(symbol) == null) {
+            throw new UnknownSymbolException(symbol);
+        }
+        Long id = parseOrderId(orderId);
+        if (id == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return matchingEngine.cancelOrder(id, symbol);
+    }
+
+    public OrderResponseDTO getOrder(String symbol, String orderId) {
+        Instrument instrument = instrumentService.findInstrument(symbol);
+        Long id = parseOrderId(orderId);
+        if (instrument == null || id == null) {
+            return null;
+        }
+        OrderReport report = matchingEngine.getOrder(symbol, id);
+        if (report == null) {
+            return null;
+        }
+        return OrderResponseDTO.fromReport(report, instrument);
+    }
+
+    public OrderBook.OrderBookSnapshot getOrderBookSnapshot(String symbol, Integer depth) {
+        if (depth == null || depth <= 0) {
+            OrderBook.OrderBookSnapshot published = orderBookBroadcaster.getPublishedSnapshot(symbol);
+            return published != null ? published : matchingEngine.getOrderBookSnapshot(symbol);
+        }
+        return matchingEngine.getOrderBookSnapshot(symbol, depth);
+    }
+
+    private Instrument tradableInstrument(String symbol) {
+        Instrument instrument = instrumentService.findInstrument(symbol);
+        if (instrument == null) {
+            throw new InvalidOrderException("Unknown symbol: " + symbol);
+        }
+        return instrument;
+    }
+
+    private static Long parseOrderId(String orderId) {
+        try {
+            return Long.parseLong(orderId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
-    public Order getOrder(String symbol, String orderId) {
-        return matchingEngine.getOrder(symbol, orderId);
+    private static long toTicks(Instrument instrument, OrderRequestDTO request) {
+        try {
+            return instrument.toTicks(request.getPrice());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOrderException(e.getMessage());
+        }
     }
 
-    public OrderBook.OrderBookSnapshot getOrderBookSnapshot(String symbol) {
-        return matchingEngine.getOrderBookSnapshot(symbol);
+    private static long toLots(Instrument instrument, OrderRequestDTO request) {
+        try {
+            return instrument.toLots(request.getQuantity());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOrderException(e.getMessage());
+        }
     }
 }
@@ -1,15 +1,20 @@
 package com.jayesh.matchx.service;
 
-import com.jayesh.matchx.engine.MatchingEngine;
-import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.common.trade.TradeBatchEvent;
+import com.jayesh.common.trade.TradeEvent;
+import com.jayesh.common.trade.TradeEventFormat;
+import com.jayesh.common.trade.TradeSide;
+import com.jayesh.matchx.dto.TradeBatchEventDTO;
+import com.jayesh.matchx.model.Instrument;
 import com.jayesh.matchx.model.Trade;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -18,37 +23,80 @@ public class TradePublisherService {
     private static final Logger logger = LoggerFactory.getLogger(TradePublisherService.class);
     private static final String TOPIC = "trade-events";
 
-    private final KafkaTemplate<String, Trade> kafkaTemplate;
-    private final MatchingEngine matchingEngine;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final InstrumentService instrumentService;
+    private final TradeEventFormat format;
 
-    public TradePublisherService(KafkaTemplate<String, Trade> kafkaTemplate, 
-                                @Lazy MatchingEngine matchingEngine) {
+    public TradePublisherService(KafkaTemplate<String, Object> kafkaTemplate,
+                                InstrumentService instrumentService,
+                                @Value("${matchx.trade-events.format:json}") TradeEventFormat format) {
         this.kafkaTemplate = kafkaTemplate;
-        this.matchingEngine = matchingEngine;
+        this.instrumentService = instrumentService;
+        this.format = format;
     }
 
-    public void publishTrade(Trade trade) {
+    /**
+     * Publishes trades in match order, one record per aggressive order. The idempotent producer
+     * keeps broker-side retries from duplicating records.
+     */
+    public void publishTrades(List<Trade> trades) {
+        int start = 0;
+        for (int i = 1; i <= trades.size(); i++) {
+            if (i == trades.size() || !sameAggressor(trades.get(start), trades.get(i))) {
+                publish(trades.subList(start, i));
+                start = i;
+            }
+        }
+    }
+
+    private void publish(List<Trade> fills) {
+        Trade first = fills.get(0);
+        String symbol = first.getSymbol();
+        long firstSequence = first.getSequence();
+        long lastSequence = fills.get(fills.size() - 1).getSequence();
         try {
-            logger.info("Publishing trade: {} for {}", trade.getTradeId(), trade.getSymbol());
-            CompletableFuture<SendResult<String, Trade>> future = 
-                kafkaTemplate.send(TOPIC, trade.getSymbol(), trade);
+            Instrument instrument = instrumentService.getInstrument(symbol);
+            Object event = format == TradeEventFormat.BINARY
+                ? toBinaryEvent(fills, instrument)
+                : TradeBatchEventDTO.fromTrades(fills, instrument);
+            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(TOPIC, symbol, event);
             future.whenComplete((result, ex) -> {
                 if (ex != null) {
-                    logger.error("Failed to publish trade: {}", trade.getTradeId(), ex);
+                    logger.error("Failed to publish trades {}-{} for {}", firstSequence, lastSequence, symbol, ex);
                 } else {
-                    logger.debug("Trade published successfully: {}", trade.getTradeId());
+                    logger.debug("Trades {}-{} for {} published successfully", firstSequence, lastSequence, symbol);
                 }
             });
         } catch (Exception e) {
-            logger.error("Error publishing trade: {}", trade.getTradeId(), e);
+            logger.error("Error publishing trades for order: {}", first.getTakerOrderId(), e);
         }
     }
 
-    public void publishTrades(List<Trade> trades) {
-        trades.forEach(this::publishTrade);
+    private static TradeBatchEvent toBinaryEvent(List<Trade> fills, Instrument instrument) {
+        List<TradeEvent> trades = new ArrayList<>(fills.size());
+        for (Trade trade : fills) {
+            trades.add(new TradeEvent(
+                trade.getTradeId(),
+                trade.getSequence(),
+                instrument.toFixedPrice(trade.getPrice()),
+                instrument.toFixedQuantity(trade.getQuantity()),
+                trade.getBuyOrderId(),
+                trade.getSellOrderId(),
+                trade.getTimestamp()
+            ));
+        }
+        Trade first = fills.get(0);
+        return new TradeBatchEvent(
+            first.getSymbol(),
+            first.getTakerOrderId(),
+            TradeSide.valueOf(first.getTakerSide().name()),
+            instrument.getPriceScale(),
+            instrument.getQuantityScale(),
+            trades
+        );
     }
 
-    public OrderBook.OrderBookSnapshot getOrderBookSnapshot(String symbol) {
-        return matchingEngine.getOrderBookSnapshot(symbol);
+    private static boolean sameAggressor(Trade first, Trade other) {
+        return first.getTakerOrderId() == other.getTakerOrderId() && first.getSymbol().equals(other.getSymbol());
     }
 }
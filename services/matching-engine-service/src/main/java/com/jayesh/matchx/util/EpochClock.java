@@ -0,0 +1,58 @@
+package com.jayesh.matchx.util;
+
+import java.time.Instant;
+
+/**
+ * Allocation-free wall clock with nanosecond resolution. Extrapolates from an {@link Instant}
+ * anchor using {@link System#nanoTime()} and re-anchors once a second to stay close to the
+ * system clock.
+ *
+ * <p>Timestamps never go backwards, since they are journaled, audited and published in order. A
+ * re-anchor only moves the clock forward: if NTP has set the system clock back, the new anchor
+ * continues from the old anchor's extrapolation instead, and the clock runs ahead of the system
+ * clock by that step until the system clock catches up.
+ */
+public final class EpochClock {
+    private static final long RESYNC_INTERVAL_NANOS = 1_000_000_000L;
+
+    private static volatile Anchor anchor = Anchor.now();
+
+    private EpochClock() {
+    }
+
+    public static long epochNanos() {
+        Anchor current = anchor;
+        long elapsed = System.nanoTime() - current.nanoTime;
+        if (elapsed > RESYNC_INTERVAL_NANOS) {
+            current = resync(current);
+            elapsed = System.nanoTime() - current.nanoTime;
+        }
+        return current.epochNanos + elapsed;
+    }
+
+    private static synchronized Anchor resync(Anchor stale) {
+        Anchor current = anchor;
+        if (current != stale) {
+            return current;
+        }
+        Anchor next = Anchor.now();
+        long extrapolated = current.epochNanos + (next.nanoTime - current.nanoTime);
+        if (next.epochNanos < extrapolated) {
+            next = new Anchor(extrapolated, next.nanoTime);
+        }
+        anchor = next;
+        return next;
+    }
+
+    public static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+
+    private record Anchor(long epochNanos, long nanoTime) {
+        static Anchor now() {
+            Instant instant = Instant.now();
+            long nanoTime = System.nanoTime();
+            return new Anchor(instant.getEpochSecond() * 1_000_000_000L + instant.getNano(), nanoTime);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentOrderLookupTest {
+    private static final String[] SYMBOLS = {"BTC-USD", "ETH-USD"};
+
+    private MatchingEngine engine;
+
+    @AfterEach
+    void shutdown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void readersSeeConsistentReportsWhileShardsMatch() throws Exception {
+        EngineProperties properties = new EngineProperties();
+        properties.setShards(2);
+        properties.setPooling(true);
+        properties.setPoolSize(1024);
+        properties.getRecentOrders().setCapacity(2_000);
+        engine = new MatchingEngine(properties, trades -> { }, 20);
+
+        Queue<long[]> known = new ConcurrentLinkedQueue<>();
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong reads = new AtomicLong();
+        AtomicReference<String> inconsistency = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Thread reader = new Thread(() -> {
+                while (!stop.get()) {
+                    for (long[] order : known) {
+                        OrderReport report = engine.getOrder(SYMBOLS[(int) order[1]], order[0]);
+                        String problem = check(report, order[0]);
+                        if (problem != null) {
+                            inconsistency.compareAndSet(null, problem);
+                        }
+                        reads.incrementAndGet();
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        Random random = new Random(11);
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                int symbol = random.nextInt(SYMBOLS.length);
+                OrderSide side = random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL;
+                long spread = random.nextInt(10) == 0 ? 20 : 0;
+                long price = side == OrderSide.BUY ? 1_000 - random.nextInt(30) + spread : 1_000 + random.nextInt(30) - spread;
+                OrderReport submitted = engine.submitOrder(SYMBOLS[symbol], side, price, 1 + random.nextInt(5)).get();
+
+                OrderReport seen = engine.getOrder(SYMBOLS[symbol], submitted.id());
+                assertThat(seen).as("own write of order %d", submitted.id()).isNotNull();
+                assertThat(seen.id()).isEqualTo(submitted.id());
+
+                known.add(new long[]{submitted.id(), symbol});
+                if (known.size() > 200) {
+                    known.poll();
+                }
+                if (random.nextInt(3) == 0) {
+                    long[] oldest = known.peek();
+                    engine.cancelOrder(oldest[0], SYMBOLS[(int) oldest[1]]).get();
+                }
+            }
+        } finally {
+            stop.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        assertThat(inconsistency.get()).isNull();
+        assertThat(reads.get()).isPositive();
+    }
+
+    @Test
+    void lookupsKeepWorkingAfterAWriteFails() throws Exception {
+        OrderBook book = new OrderBook("BTC-USD", 1024);
+        book.match(new Order(1, "BTC-USD", OrderSide.SELL, 100, 5));
+
+        MatchContext broken = new MatchContext(null);
+        assertThatThrownBy(() -> book.match(new Order(2, "BTC-USD", OrderSide.BUY, 100, 2), broken))
+            .isInstanceOf(NullPointerException.class);
+
+        assertThat(lookup(book, 1).status()).isEqualTo(OrderStatus.OPEN);
+        book.match(new Order(3, "BTC-USD", OrderSide.BUY, 90, 1));
+        assertThat(book.cancelOrder(3)).isTrue();
+        assertThat(lookup(book, 3).status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(lookup(book, 1).remainingQuantity()).isEqualTo(5);
+    }
+
+    private static OrderReport lookup(OrderBook book, long orderId) throws Exception {
+        return CompletableFuture.supplyAsync(() -> book.getOrder(orderId)).get(5, TimeUnit.SECONDS);
+    }
+
+    private static String check(OrderReport report, long orderId) {
+        if (report == null) {
+            return null;
+        }
+        if (report.id() != orderId) {
+            return "lookup of " + orderId + " returned " + report.id();
+        }
+        if (report.remainingQuantity() < 0 || report.remainingQuantity() > report.quantity()) {
+            return "order " + orderId + " has remaining " + report.remainingQuantity() + " of " + report.quantity();
+        }
+        if ((report.status() == OrderStatus.FILLED) != (report.remainingQuantity() == 0)) {
+            return "order " + orderId + " is " + report.status() + " with remaining " + report.remainingQuantity();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.model.OrderSide;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingEngineBatchTest {
+    private static final int RING_SIZE = 16;
+
+    private MatchingEngine engine;
+
+    @AfterEach
+    void shutdown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void returnsResultsInListOrderAcrossShards() throws Exception {
+        engine = new MatchingEngine(properties(), trades -> { }, 10);
+        OrderReport resting = engine.submitOrder("B", OrderSide.SELL, 100, 5).get();
+
+        List<BatchResult> results = engine.submitBatch(List.of(
+            BatchCommand.newOrder("A", OrderSide.BUY, 99, 1),
+            BatchCommand.cancel("B", resting.id()),
+            BatchCommand.newOrder("B", OrderSide.BUY, 100, 1))).get(10, TimeUnit.SECONDS);
+
+        assertThat(results.get(0).report().symbol()).isEqualTo("A");
+        assertThat(results.get(1).cancelled()).isTrue();
+        assertThat(results.get(2).report().remainingQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsAGroupLargerThanItsRing() {
+        engine = new MatchingEngine(properties(), trades -> { }, 10);
+        List<BatchCommand> commands = Collections.nCopies(RING_SIZE + 1, BatchCommand.newOrder("A", OrderSide.BUY, 100, 1));
+
+        assertThatThrownBy(() -> engine.submitBatch(commands))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void failsWithoutBlockingWhenAShardIsFullAndLeavesTheOtherShardRunning() throws Exception {
+        engine = new MatchingEngine(properties(), trades -> { }, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        List<CompletableFuture<OrderReport>> queued = new ArrayList<>();
+        queued.add(engine.submitOrder("A", OrderSide.BUY, 100, 1, orderId -> {
+            blocked.countDown();
+            awaitUninterruptibly(release);
+        }));
+        assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < RING_SIZE; i++) {
+            CompletableFuture<OrderReport> future = engine.submitOrder("A", OrderSide.BUY, 100, 1);
+            if (future.isCompletedExceptionally()) {
+                break;
+            }
+            queued.add(future);
+        }
+
+        CompletableFuture<List<BatchResult>> batch = engine.submitBatch(List.of(
+            BatchCommand.newOrder("B", OrderSide.SELL, 200, 1),
+            BatchCommand.newOrder("A", OrderSide.BUY, 100, 1)));
+
+        assertThat(batch).isCompletedExceptionally();
+        assertThatThrownBy(batch::get).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+        OrderReport afterRejection = engine.submitOrder("B", OrderSide.BUY, 150, 1).get(10, TimeUnit.SECONDS);
+        assertThat(afterRejection.remainingQuantity()).isEqualTo(1);
+        assertThat(engine.getOrderBookSnapshot("B", 10).asks()).isEmpty();
+
+        release.countDown();
+        for (CompletableFuture<OrderReport> future : queued) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isNotNull();
+        }
+    }
+
+    private static EngineProperties properties() {
+        EngineProperties properties = new EngineProperties();
+        properties.setShards(2);
+        properties.setRingBufferSize(RING_SIZE);
+        properties.setSymbolShards(Map.of("A", 0, "B", 1));
+        return properties;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.engine.snapshot.SnapshotReader;
+import com.jayesh.matchx.engine.snapshot.SnapshotStore;
+import com.jayesh.matchx.engine.snapshot.SnapshotWriter;
+import com.jayesh.matchx.model.Order;
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.OrderStatus;
+import com.jayesh.matchx.model.Trade;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OrderBookSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restoredBookMatchesLikeTheOriginal() throws Exception {
+        OrderBook original = new OrderBook("BTC-USD", 1024);
+        Random random = new Random(7);
+        long id = 1;
+        for (; id <= 2_000; id++) {
+            original.match(randomOrder(id, random));
+        }
+
+        OrderBook restored = new OrderBook("BTC-USD", 1024);
+        restored.readSnapshot(roundTrip(original), new MatchContext(new IdGenerator(0)));
+        restored.publishView();
+
+        assertSameLevels(restored, original);
+        assertThat(restored.getLevelCount()).isEqualTo(original.getLevelCount());
+        for (long orderId = 1; orderId < id; orderId++) {
+            assertThat(restored.getOrder(orderId)).isEqualTo(original.getOrder(orderId));
+        }
+        for (; id <= 3_000; id++) {
+            long seed = random.nextLong();
+            List<Trade> expected = original.match(randomOrder(id, new Random(seed)));
+            List<Trade> actual = restored.match(randomOrder(id, new Random(seed)));
+            assertThat(actual).extracting(Trade::getSequence, Trade::getPrice, Trade::getQuantity,
+                    Trade::getBuyOrderId, Trade::getSellOrderId)
+                .containsExactlyElementsOf(expected.stream()
+                    .map(trade -> tuple(trade.getSequence(), trade.getPrice(),
+                        trade.getQuantity(), trade.getBuyOrderId(), trade.getSellOrderId()))
+                    .toList());
+        }
+        assertSameLevels(restored, original);
+    }
+
+    @Test
+    void restoresPartiallyFilledOrdersAndCompletedReports() throws Exception {
+        OrderBook original = new OrderBook("ETH-USD");
+        original.match(new Order(1, "ETH-USD", OrderSide.SELL, 100, 10));
+        original.match(new Order(2, "ETH-USD", OrderSide.SELL, 101, 5));
+        original.match(new Order(3, "ETH-USD", OrderSide.BUY, 100, 4));
+        original.match(new Order(4, "ETH-USD", OrderSide.BUY, 99, 8));
+
+        OrderBook restored = new OrderBook("ETH-USD");
+        restored.readSnapshot(roundTrip(original), new MatchContext(new IdGenerator(0)));
+
+        assertThat(restored.getOrder(1).status()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+        assertThat(restored.getOrder(1).remainingQuantity()).isEqualTo(6);
+        assertThat(restored.getOrder(3).status()).isEqualTo(OrderStatus.FILLED);
+        assertThat(restored.getOrder(4).status()).isEqualTo(OrderStatus.OPEN);
+        List<Trade> trades = restored.match(new Order(5, "ETH-USD", OrderSide.BUY, 101, 7));
+        assertThat(trades).extracting(Trade::getSequence, Trade::getSellOrderId, Trade::getQuantity)
+            .containsExactly(tuple(2L, 1L, 6L),
+                tuple(3L, 2L, 1L));
+    }
+
+    private SnapshotReader roundTrip(OrderBook book) throws Exception {
+        try (SnapshotStore store = new SnapshotStore(directory, 0, 1, "snapshot-test")) {
+            SnapshotWriter out = store.begin();
+            book.writeSnapshot(out);
+            CompletableFuture<Long> durable = new CompletableFuture<>();
+            store.publish(1, durable::complete);
+            durable.get(10, TimeUnit.SECONDS);
+        }
+        try (SnapshotStore store = new SnapshotStore(directory, 0, 1, "snapshot-test")) {
+            return store.loadLatest();
+        }
+    }
+
+    private static Order randomOrder(long id, Random random) {
+        OrderSide side = random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL;
+        long price = 10_000 + random.nextInt(61) - 30;
+        return new Order(id, "BTC-USD", side, price, 1 + random.nextInt(20));
+    }
+
+    private static void assertSameLevels(OrderBook actual, OrderBook expected) {
+        OrderBook.OrderBookSnapshot actualLevels = actual.getSnapshot(1_000);
+        OrderBook.OrderBookSnapshot expectedLevels = expected.getSnapshot(1_000);
+        assertThat(actualLevels.bids()).usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(expectedLevels.bids());
+        assertThat(actualLevels.asks()).usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(expectedLevels.asks());
+    }
+}
@@ -0,0 +1,103 @@
+package com.jayesh.matchx.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceLadderTest {
+
+    @Test
+    void tracksBestLevelOnBothSides() {
+        PriceLadder bids = new PriceLadder(true, 128);
+        PriceLadder asks = new PriceLadder(false, 128);
+        for (long price : new long[]{1000, 1005, 990}) {
+            bids.getOrCreate(price);
+            asks.getOrCreate(price);
+        }
+
+        assertThat(bids.best().getPrice()).isEqualTo(1005);
+        assertThat(asks.best().getPrice()).isEqualTo(990);
+
+        bids.remove(bids.best());
+        asks.remove(asks.best());
+
+        assertThat(bids.best().getPrice()).isEqualTo(1000);
+        assertThat(asks.best().getPrice()).isEqualTo(1000);
+    }
+
+    @Test
+    void returnsExistingLevelForSamePrice() {
+        PriceLadder ladder = new PriceLadder(false, 64);
+        PriceLevel level = ladder.getOrCreate(500);
+
+        assertThat(ladder.getOrCreate(500)).isSameAs(level);
+        assertThat(ladder.get(500)).isSameAs(level);
+        assertThat(ladder.levelCount()).isEqualTo(1);
+    }
+
+    @Test
+    void followsBestPriceAwayFromAStaleLevel() {
+        PriceLadder bids = new PriceLadder(true, 64);
+        PriceLevel stale = bids.getOrCreate(100);
+        PriceLevel previous = bids.getOrCreate(101);
+        for (long price = 102; price < 10_000; price++) {
+            PriceLevel level = bids.getOrCreate(price);
+            assertThat(bids.best()).isSameAs(level);
+            bids.remove(previous);
+            previous = level;
+        }
+
+        assertThat(bids.levelCount()).isEqualTo(2);
+        List<Long> prices = new ArrayList<>();
+        bids.forEachLevel(level -> prices.add(level.getPrice()));
+        assertThat(prices).containsExactly(9_999L, 100L);
+        bids.remove(previous);
+        assertThat(bids.best()).isSameAs(stale);
+    }
+
+    @Test
+    void matchesSortedMapUnderRandomDriftingOperations() {
+        for (boolean descending : new boolean[]{true, false}) {
+            Random random = new Random(descending ? 1 : 2);
+            PriceLadder ladder = new PriceLadder(descending, 256);
+            TreeMap<Long, PriceLevel> expected = new TreeMap<>(
+                descending ? Comparator.<Long>reverseOrder() : Comparator.<Long>naturalOrder());
+            long mid = 100_000;
+            for (int i = 0; i < 50_000; i++) {
+                mid = Math.max(1_000, mid + random.nextInt(21) - 10);
+                int action = random.nextInt(10);
+                if (action < 5 || expected.isEmpty()) {
+                    long price = mid + (random.nextInt(10) == 0 ? random.nextInt(20_001) - 10_000 : random.nextInt(401) - 200);
+                    expected.put(price, ladder.getOrCreate(price));
+                } else if (action < 8) {
+                    PriceLevel best = ladder.best();
+                    expected.remove(best.getPrice());
+                    ladder.remove(best);
+                } else {
+                    List<Long> prices = new ArrayList<>(expected.keySet());
+                    long price = prices.get(random.nextInt(prices.size()));
+                    ladder.remove(expected.remove(price));
+                }
+                assertMatches(ladder, expected);
+            }
+        }
+    }
+
+    private static void assertMatches(PriceLadder ladder, TreeMap<Long, PriceLevel> expected) {
+        assertThat(ladder.levelCount()).isEqualTo(expected.size());
+        if (expected.isEmpty()) {
+            assertThat(ladder.isEmpty()).isTrue();
+            return;
+        }
+        assertThat(ladder.best()).isSameAs(expected.firstEntry().getValue());
+        List<PriceLevel> visited = new ArrayList<>();
+        ladder.forEachLevel(level -> visited.add(level) && visited.size() < 20);
+        assertThat(visited).containsExactlyElementsOf(expected.values().stream().limit(20).toList());
+    }
+}
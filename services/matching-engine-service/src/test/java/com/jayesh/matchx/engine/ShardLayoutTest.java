@@ -0,0 +1,62 @@
+package com.jayesh.matchx.engine;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.model.OrderSide;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardLayoutTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsTheLayoutOnFirstStartAndAcceptsItAgain() {
+        String layout = new ShardAssigner(4, Map.of("A", 1), List.of("HOT")).describe();
+
+        ShardLayout.verify(directory, layout);
+        ShardLayout.verify(directory, layout);
+
+        assertThat(directory.resolve(ShardLayout.FILE_NAME)).hasContent(layout);
+    }
+
+    @Test
+    void rejectsAChangedPoolSizeOrAssignment() {
+        ShardLayout.verify(directory, new ShardAssigner(4, Map.of(), List.of("HOT")).describe());
+
+        assertThatThrownBy(() -> ShardLayout.verify(directory, new ShardAssigner(8, Map.of(), List.of("HOT")).describe()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("pool-size=4");
+        assertThatThrownBy(() -> ShardLayout.verify(directory, new ShardAssigner(4, Map.of(), List.of()).describe()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void engineRefusesToReplayAJournalWrittenWithAnotherShardCount() throws Exception {
+        MatchingEngine engine = new MatchingEngine(properties(2), trades -> {}, 10);
+        engine.submitOrder("A", OrderSide.BUY, 100, 1).get();
+        engine.shutdown();
+
+        assertThatThrownBy(() -> new MatchingEngine(properties(3), trades -> {}, 10))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("shard layout");
+        assertThat(Files.exists(directory.resolve("shard-2"))).isFalse();
+    }
+
+    private EngineProperties properties(int shards) {
+        EngineProperties properties = new EngineProperties();
+        properties.setShards(shards);
+        properties.getJournal().setEnabled(true);
+        properties.getJournal().setDirectory(directory.toString());
+        properties.getJournal().setSegmentSize(1 << 16);
+        return properties;
+    }
+}
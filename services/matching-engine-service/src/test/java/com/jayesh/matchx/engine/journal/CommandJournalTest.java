@@ -0,0 +1,251 @@
+package com.jayesh.matchx.engine.journal;
+
+import com.jayesh.matchx.model.OrderSide;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandJournalTest {
+    private static final int HEADER = 8;
+    private static final int SYMBOL_RECORD = 8 + 1 + 4 + 2 + 1;
+    private static final int NEW_ORDER_RECORD = 8 + 46;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysAppendedCommandsInOrder() {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        journal.appendNewOrder("A", 11, OrderSide.BUY, 100, 5, 1_000);
+        journal.appendNewOrder("B", 12, OrderSide.SELL, 101, 7, 2_000);
+        journal.appendCancel("A", 11);
+        journal.commit();
+        journal.close();
+
+        Recorder recorder = new Recorder();
+        CommandJournal reopened = open();
+
+        assertThat(reopened.replay(0, recorder)).isEqualTo(3);
+        assertThat(recorder.commands).containsExactly(
+            "1 NEW A 11 BUY 100 5 1000",
+            "2 NEW B 12 SELL 101 7 2000",
+            "3 CANCEL A 11");
+        assertThat(reopened.getLastSequence()).isEqualTo(3);
+    }
+
+    @Test
+    void replaysOnlyCommandsAfterTheGivenSequence() {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        for (int i = 1; i <= 5; i++) {
+            journal.appendNewOrder("A", i, OrderSide.BUY, 100, 1, i);
+        }
+        journal.close();
+
+        Recorder recorder = new Recorder();
+
+        assertThat(open().replay(3, recorder)).isEqualTo(2);
+        assertThat(recorder.commands).containsExactly("4 NEW A 4 BUY 100 1 4", "5 NEW A 5 BUY 100 1 5");
+    }
+
+    @Test
+    void continuesTheSequenceInAFreshSegmentAfterReplay() throws IOException {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        journal.appendNewOrder("A", 1, OrderSide.BUY, 100, 1, 1);
+        journal.close();
+
+        CommandJournal reopened = open();
+        reopened.replay(0, new Recorder());
+        reopened.appendCancel("A", 1);
+        reopened.close();
+        Recorder recorder = new Recorder();
+
+        assertThat(segments()).hasSize(2);
+        assertThat(open().replay(0, recorder)).isEqualTo(2);
+        assertThat(recorder.commands).containsExactly("1 NEW A 1 BUY 100 1 1", "2 CANCEL A 1");
+    }
+
+    @Test
+    void rollsSegmentsAndReplaysAcrossThem() throws IOException {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        int commands = 5_000;
+        for (int i = 1; i <= commands; i++) {
+            journal.appendNewOrder(i % 2 == 0 ? "EVEN" : "ODD", i, OrderSide.SELL, i, 1, i);
+        }
+        journal.close();
+        Recorder recorder = new Recorder();
+
+        assertThat(segments().size()).isGreaterThan(1);
+        assertThat(open().replay(0, recorder)).isEqualTo(commands);
+        assertThat(recorder.commands.get(commands - 1)).isEqualTo("5000 NEW EVEN 5000 SELL 5000 1 5000");
+    }
+
+    @Test
+    void stopsAtATruncatedLastRecord() throws IOException {
+        writeOrders(4);
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(HEADER + SYMBOL_RECORD + 4L * NEW_ORDER_RECORD - 10);
+        }
+        Recorder recorder = new Recorder();
+
+        assertThat(open().replay(0, recorder)).isEqualTo(3);
+        assertThat(recorder.commands).hasSize(3);
+    }
+
+    @Test
+    void stopsAtARecordWhoseChecksumDoesNotMatch() throws IOException {
+        writeOrders(4);
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            long lastPayload = HEADER + SYMBOL_RECORD + 3L * NEW_ORDER_RECORD + 8;
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), lastPayload + 30);
+        }
+
+        assertThat(open().replay(0, new Recorder())).isEqualTo(3);
+    }
+
+    @Test
+    void failsOnAGapBetweenSegments() throws IOException {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        for (int i = 1; i <= 5_000; i++) {
+            journal.appendCancel("A", i);
+        }
+        journal.close();
+        List<Path> segments = segments();
+        assertThat(segments.size()).isGreaterThan(2);
+        Files.delete(segments.get(1));
+
+        assertThatThrownBy(() -> open().replay(0, new Recorder()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Journal gap");
+    }
+
+    @Test
+    void deletesOnlySegmentsFullyBeforeASequence() throws IOException {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        for (int i = 1; i <= 5_000; i++) {
+            journal.appendCancel("A", i);
+        }
+        List<Path> before = segments();
+        String secondName = before.get(1).getFileName().toString();
+        long secondFirst = Long.parseLong(secondName.substring(0, secondName.indexOf('.')));
+
+        assertThat(journal.deleteSegmentsBefore(secondFirst - 1)).isEqualTo(1);
+        journal.close();
+        Recorder recorder = new Recorder();
+
+        assertThat(segments()).hasSize(before.size() - 1);
+        assertThat(open().replay(secondFirst - 1, recorder)).isEqualTo(5_000 - secondFirst + 1);
+    }
+
+    @Test
+    void replaysPastACommandThatFailedLive() {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        journal.appendNewOrder("A", 1, OrderSide.BUY, 100, 1, 1);
+        journal.appendCancel("A", 1);
+        journal.markFailed();
+        journal.appendNewOrder("A", 2, OrderSide.SELL, 101, 1, 2);
+        journal.close();
+        Recorder recorder = new Recorder();
+        recorder.failingSequence = 2;
+
+        assertThat(open().replay(0, recorder)).isEqualTo(3);
+        assertThat(recorder.commands).containsExactly("1 NEW A 1 BUY 100 1 1", "3 NEW A 2 SELL 101 1 2");
+    }
+
+    @Test
+    void failsOnACommandThatOnlyFailsOnReplay() {
+        writeOrders(3);
+        Recorder recorder = new Recorder();
+        recorder.failingSequence = 2;
+
+        assertThatThrownBy(() -> open().replay(0, recorder))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("sequence 2");
+        assertThat(recorder.commands).containsExactly("1 NEW X 1 BUY 101 1 1");
+    }
+
+    @Test
+    void keepsAFailedMarkerInTheSegmentOfItsCommand() throws IOException {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        int commands = 2_000;
+        for (int i = 1; i <= commands; i++) {
+            journal.appendCancel("A", i);
+            journal.markFailed();
+        }
+        journal.close();
+        Recorder recorder = new Recorder();
+        recorder.failingSequence = -1;
+
+        assertThat(segments().size()).isGreaterThan(1);
+        assertThat(open().replay(0, recorder)).isEqualTo(commands);
+        assertThat(recorder.commands).isEmpty();
+    }
+
+    private void writeOrders(int count) {
+        CommandJournal journal = open();
+        journal.replay(0, new Recorder());
+        for (int i = 1; i <= count; i++) {
+            journal.appendNewOrder("X", i, OrderSide.BUY, 100 + i, 1, i);
+        }
+        journal.close();
+    }
+
+    private CommandJournal open() {
+        return new CommandJournal(directory, CommandJournal.MIN_SEGMENT_SIZE, SyncPolicy.BATCH, 0);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".journal")).sorted().toList();
+        }
+    }
+
+    private static final class Recorder implements JournalHandler {
+        private final List<String> commands = new ArrayList<>();
+        private long failingSequence;
+
+        @Override
+        public void onNewOrder(long sequence, String symbol, long orderId, OrderSide side,
+                               long price, long quantity, long timestamp) {
+            failIfRequested(sequence);
+            commands.add(sequence + " NEW " + symbol + " " + orderId + " " + side + " " + price + " "
+                + quantity + " " + timestamp);
+        }
+
+        @Override
+        public void onCancel(long sequence, String symbol, long orderId) {
+            failIfRequested(sequence);
+            commands.add(sequence + " CANCEL " + symbol + " " + orderId);
+        }
+
+        /**
+         * Throws for {@code failingSequence}, or for every command if it is negative.
+         */
+        private void failIfRequested(long sequence) {
+            if (failingSequence < 0 || sequence == failingSequence) {
+                throw new IllegalStateException("Cannot apply sequence " + sequence);
+            }
+        }
+    }
+}
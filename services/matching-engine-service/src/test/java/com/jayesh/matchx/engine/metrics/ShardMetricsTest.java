@@ -0,0 +1,49 @@
+package com.jayesh.matchx.engine.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ShardMetricsTest {
+
+    @Test
+    void summariesCoverEveryIntervalSinceTheLastReset() {
+        EngineMetrics engineMetrics = new EngineMetrics(true);
+        ShardMetrics metrics = engineMetrics.register("shard-0");
+        for (int i = 1; i <= 1_000; i++) {
+            metrics.recordMatch(i * 1_000L);
+        }
+        assertThat(metrics.summarize(ShardMetrics.Stage.MATCH).count()).isEqualTo(1_000);
+        metrics.recordMatch(5_000_000);
+
+        ShardMetrics.Summary summary = metrics.summarize(ShardMetrics.Stage.MATCH);
+
+        assertThat(summary.count()).isEqualTo(1_001);
+        assertThat((double) summary.p50()).isCloseTo(500_000, within(5_000.0));
+        assertThat((double) summary.p99()).isCloseTo(990_000, within(9_900.0));
+        assertThat((double) summary.max()).isCloseTo(5_000_000, within(50_000.0));
+        assertThat(metrics.summarize().get("matchNanos")).isEqualTo(summary);
+
+        engineMetrics.setEnabled(false);
+        engineMetrics.setEnabled(true);
+
+        assertThat(metrics.summarize(ShardMetrics.Stage.MATCH).count()).isZero();
+    }
+
+    @Test
+    void clampsValuesOutsideTheTrackableRange() {
+        ShardMetrics metrics = new EngineMetrics(true).register("shard-0");
+        metrics.recordQueueWait(-5);
+        metrics.recordQueueWait(Long.MAX_VALUE);
+
+        ShardMetrics.Summary summary = metrics.summarize(ShardMetrics.Stage.QUEUE_WAIT);
+
+        long hour = TimeUnit.HOURS.toNanos(1);
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.p50()).isZero();
+        assertThat((double) summary.max()).isCloseTo(hour, within(hour / 100.0));
+    }
+}
@@ -0,0 +1,147 @@
+package com.jayesh.matchx.engine.sequencer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    @Test
+    void deliversEveryProducersEntriesInOrderAcrossWrapAround() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        RingBuffer<long[]> ringBuffer = new RingBuffer<>(ProducerType.MULTI, () -> new long[2], 64,
+            new YieldingWaitStrategy());
+        SequenceBarrier barrier = ringBuffer.newBarrier();
+        long[] received = new long[producers];
+        Thread consumer = new Thread(() -> {
+            long next = 0;
+            long total = (long) producers * perProducer;
+            try {
+                while (next < total) {
+                    long available = barrier.waitFor(next);
+                    for (long sequence = next; sequence <= available; sequence++) {
+                        long[] entry = ringBuffer.get(sequence);
+                        int producer = (int) entry[0];
+                        assertThat(entry[1]).isEqualTo(received[producer]);
+                        received[producer]++;
+                    }
+                    if (available >= next) {
+                        ringBuffer.getGatingSequence().set(available);
+                        next = available + 1;
+                    }
+                }
+            } catch (AlertException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        consumer.start();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                int sent = 0;
+                while (sent < perProducer) {
+                    int n = Math.min(1 + sent % 3, perProducer - sent);
+                    long hi = ringBuffer.next(n);
+                    long lo = hi - n + 1;
+                    for (long sequence = lo; sequence <= hi; sequence++) {
+                        long[] entry = ringBuffer.get(sequence);
+                        entry[0] = producer;
+                        entry[1] = sent++;
+                    }
+                    ringBuffer.publish(lo, hi);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+
+        assertThat(consumer.isAlive()).isFalse();
+        assertThat(received).containsOnly(perProducer);
+    }
+
+    @Test
+    void reusesSlotsAndRejectsClaimsBeyondTheConsumer() throws Exception {
+        RingBuffer<long[]> ringBuffer = new RingBuffer<>(ProducerType.MULTI, () -> new long[1], 8,
+            new BlockingWaitStrategy());
+        long hi = ringBuffer.tryNext(8);
+        ringBuffer.publish(0, hi);
+
+        assertThat(hi).isEqualTo(7);
+        assertThat(ringBuffer.hasAvailableCapacity(1)).isFalse();
+        assertThatThrownBy(ringBuffer::tryNext).isInstanceOf(InsufficientCapacityException.class);
+
+        ringBuffer.getGatingSequence().set(2);
+
+        assertThat(ringBuffer.hasAvailableCapacity(3)).isTrue();
+        assertThat(ringBuffer.tryNext(3)).isEqualTo(10);
+        assertThatThrownBy(ringBuffer::tryNext).isInstanceOf(InsufficientCapacityException.class);
+        assertThat(ringBuffer.get(8)).isSameAs(ringBuffer.get(0));
+        assertThat(ringBuffer.get(10)).isSameAs(ringBuffer.get(2));
+    }
+
+    @Test
+    void consumerStopsAtTheFirstUnpublishedSequence() throws Exception {
+        RingBuffer<long[]> ringBuffer = new RingBuffer<>(ProducerType.MULTI, () -> new long[1], 16,
+            new BlockingWaitStrategy());
+        SequenceBarrier barrier = ringBuffer.newBarrier();
+        long first = ringBuffer.next();
+        long second = ringBuffer.next(2);
+        ringBuffer.publish(second - 1, second);
+
+        assertThat(barrier.waitFor(0)).isLessThan(0);
+
+        ringBuffer.publish(first);
+
+        assertThat(barrier.waitFor(0)).isEqualTo(second);
+    }
+
+    @Test
+    void singleProducerWrapsAroundOnceTheConsumerCatchesUp() throws Exception {
+        RingBuffer<long[]> ringBuffer = new RingBuffer<>(ProducerType.SINGLE, () -> new long[1], 4,
+            new BlockingWaitStrategy());
+        SequenceBarrier barrier = ringBuffer.newBarrier();
+        for (long value = 0; value < 20; value++) {
+            long sequence = ringBuffer.tryNext();
+            ringBuffer.get(sequence)[0] = value;
+            ringBuffer.publish(sequence);
+
+            assertThat(barrier.waitFor(sequence)).isEqualTo(sequence);
+            assertThat(ringBuffer.get(sequence)[0]).isEqualTo(value);
+            ringBuffer.getGatingSequence().set(sequence);
+        }
+    }
+
+    @Test
+    void alertWakesAWaitingConsumer() throws Exception {
+        RingBuffer<long[]> ringBuffer = new RingBuffer<>(ProducerType.MULTI, () -> new long[1], 4,
+            new BlockingWaitStrategy());
+        SequenceBarrier barrier = ringBuffer.newBarrier();
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                barrier.waitFor(0);
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        waiter.start();
+        Thread.sleep(50);
+        barrier.alert();
+        waiter.join(5_000);
+
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(thrown.get()).isInstanceOf(AlertException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.jayesh.matchx.engine.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private SnapshotStore store;
+
+    @AfterEach
+    void closeStore() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void readsBackWhatWasWritten() throws Exception {
+        store = new SnapshotStore(directory, 0, 2, "snapshot-test");
+        SnapshotWriter out = store.begin();
+        out.putLong(42);
+        out.putInt(7);
+        out.putByte((byte) 3);
+        out.putString("BTC-USD");
+        int position = out.position();
+        out.putInt(0);
+        out.putInt(position, 99);
+        write(5);
+
+        SnapshotReader in = reopen().loadLatest();
+
+        assertThat(in.getSequence()).isEqualTo(5);
+        assertThat(in.getLong()).isEqualTo(42);
+        assertThat(in.getInt()).isEqualTo(7);
+        assertThat(in.getByte()).isEqualTo((byte) 3);
+        assertThat(in.getString()).isEqualTo("BTC-USD");
+        assertThat(in.getInt()).isEqualTo(99);
+    }
+
+    @Test
+    void returnsNullWithoutSnapshots() {
+        store = new SnapshotStore(directory, 0, 2, "snapshot-test");
+
+        assertThat(store.loadLatest()).isNull();
+    }
+
+    @Test
+    void fallsBackToTheOlderSnapshotWhenTheNewestIsCorrupt() throws Exception {
+        store = new SnapshotStore(directory, 0, 2, "snapshot-test");
+        store.begin().putLong(1);
+        write(10);
+        store.begin().putLong(2);
+        write(20);
+        List<Path> snapshots = snapshots();
+        try (FileChannel channel = FileChannel.open(snapshots.get(1), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), 22);
+        }
+
+        SnapshotReader in = reopen().loadLatest();
+
+        assertThat(in.getSequence()).isEqualTo(10);
+        assertThat(in.getLong()).isEqualTo(1);
+    }
+
+    @Test
+    void prunesToTheRetainedCountAndReportsTheOldestKept() throws Exception {
+        store = new SnapshotStore(directory, 0, 2, "snapshot-test");
+        store.begin().putLong(1);
+        assertThat(write(10)).isEqualTo(10);
+        store.begin().putLong(2);
+        assertThat(write(20)).isEqualTo(10);
+        store.begin().putLong(3);
+        assertThat(write(30)).isEqualTo(20);
+
+        assertThat(snapshots()).extracting(file -> file.getFileName().toString())
+            .containsExactly(String.format("%020d.snapshot", 20), String.format("%020d.snapshot", 30));
+    }
+
+    @Test
+    void isOnlyDueOnceTheJournalMovedAndTheIntervalElapsed() throws Exception {
+        try (SnapshotStore throttled = new SnapshotStore(directory, 60_000, 2, "snapshot-test")) {
+            assertThat(throttled.isDue(1)).isFalse();
+        }
+
+        store = new SnapshotStore(directory, 0, 2, "snapshot-test");
+        store.begin().putLong(1);
+        write(10);
+
+        assertThat(store.isDue(10)).isFalse();
+        assertThat(store.isDue(11)).isTrue();
+    }
+
+    private SnapshotStore reopen() {
+        store.close();
+        store = new SnapshotStore(directory, 0, 2, "snapshot-test");
+        return store;
+    }
+
+    private long write(long sequence) throws Exception {
+        CompletableFuture<Long> durable = new CompletableFuture<>();
+        store.publish(sequence, durable::complete);
+        long oldestRetained = durable.get(10, TimeUnit.SECONDS);
+        while (!store.isDue(sequence + 1)) {
+            Thread.onSpinWait();
+        }
+        return oldestRetained;
+    }
+
+    private List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".snapshot")).sorted().toList();
+        }
+    }
+}
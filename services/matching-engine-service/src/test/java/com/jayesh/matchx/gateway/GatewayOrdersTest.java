@@ -0,0 +1,101 @@
+package com.jayesh.matchx.gateway;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.OrderReport;
+import com.jayesh.matchx.model.OrderSide;
+import com.jayesh.matchx.model.Trade;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class GatewayOrdersTest {
+
+    private final GatewayOrders orders = new GatewayOrders();
+    private final GatewaySession session = mock(GatewaySession.class);
+
+    @Test
+    void forgetsAnOrderOnceFullyFilled() {
+        orders.register(1, session, 11, 10);
+
+        orders.onTrades(List.of(trade(100, 1, 2, 4)));
+        assertThat(orders.isOwnedBy(1, session)).isTrue();
+        orders.onTrades(List.of(trade(101, 1, 3, 6)));
+
+        assertThat(orders.isOwnedBy(1, session)).isFalse();
+        verify(session).sendFill(11, 1, 101, 500, 6);
+    }
+
+    @Test
+    void forgetsACancelledOrderOnceItsEarlierFillsArrive() {
+        orders.register(1, session, 11, 10);
+
+        orders.onCancelled("BTC-USD", 1, 6);
+        assertThat(orders.isOwnedBy(1, session)).isTrue();
+        orders.onTrades(List.of(trade(100, 2, 1, 4)));
+
+        assertThat(orders.isOwnedBy(1, session)).isFalse();
+        verify(session).sendFill(11, 1, 100, 500, 4);
+    }
+
+    @Test
+    void forgetsACancelledOrderWithoutFills() {
+        orders.register(1, session, 11, 10);
+
+        orders.onCancelled("BTC-USD", 1, 10);
+
+        assertThat(orders.isOwnedBy(1, session)).isFalse();
+    }
+
+    @Test
+    void keepsAFilledOrderUntilItsFillsArrive() {
+        orders.register(1, session, 11, 10);
+
+        orders.close(1, 0);
+        assertThat(orders.isOwnedBy(1, session)).isTrue();
+        orders.onTrades(List.of(trade(100, 1, 2, 10)));
+
+        assertThat(orders.isOwnedBy(1, session)).isFalse();
+    }
+
+    @Test
+    void ignoresCancelsOfOrdersFromOtherEntryPoints() {
+        orders.register(1, session, 11, 10);
+
+        orders.onCancelled("BTC-USD", 2, 10);
+
+        assertThat(orders.isOwnedBy(1, session)).isTrue();
+    }
+
+    @Test
+    void forgetsOrdersCancelledOutsideTheGateway() throws Exception {
+        MatchingEngine engine = new MatchingEngine(new EngineProperties(), orders::onTrades, 10,
+            symbol -> OrderBook.DEFAULT_LADDER_SIZE, orders::onCancelled);
+        try {
+            OrderReport resting = engine.submitOrder("BTC-USD", OrderSide.SELL, 500, 10,
+                orderId -> orders.register(orderId, session, 11, 10)).get(10, TimeUnit.SECONDS);
+            engine.submitOrder("BTC-USD", OrderSide.BUY, 500, 4).get(10, TimeUnit.SECONDS);
+            assertThat(orders.isOwnedBy(resting.id(), session)).isTrue();
+
+            assertThat(engine.cancelOrder(resting.id(), "BTC-USD").get(10, TimeUnit.SECONDS)).isTrue();
+
+            verify(session, timeout(10_000)).sendFill(eq(11L), eq(resting.id()), anyLong(), eq(500L), eq(4L));
+            assertThat(orders.isOwnedBy(resting.id(), session)).isFalse();
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    private static Trade trade(long tradeId, long buyOrderId, long sellOrderId, long quantity) {
+        return new Trade().init(tradeId, "BTC-USD", tradeId, 500, quantity, buyOrderId, sellOrderId, OrderSide.BUY);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jayesh.matchx.service;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.model.OrderSide;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EngineMeterBinderTest {
+
+    @Test
+    void registersAGaugePerShardStageAndStatistic() throws Exception {
+        EngineProperties properties = new EngineProperties();
+        properties.setShards(2);
+        properties.getMetrics().setEnabled(true);
+        MatchingEngine engine = new MatchingEngine(properties, trades -> { }, 10);
+        try {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            new EngineMeterBinder(engine).bindTo(registry);
+            for (int i = 0; i < 10; i++) {
+                engine.submitOrder("BTC-USD", OrderSide.BUY, 100 + i, 1).get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(registry.find("matchx.engine.match").gauges()).hasSize(2 * 6);
+            String shard = registry.find("matchx.engine.book.depth").tag("statistic", "max").gauges().stream()
+                .filter(gauge -> gauge.value() > 0)
+                .map(gauge -> gauge.getId().getTag("shard"))
+                .findFirst()
+                .orElseThrow();
+            Gauge count = registry.get("matchx.engine.match").tag("shard", shard).tag("statistic", "count").gauge();
+            Gauge p99 = registry.get("matchx.engine.match").tag("shard", shard).tag("statistic", "p99").gauge();
+            assertThat(count.value()).isEqualTo(10);
+            assertThat(p99.value()).isPositive();
+            assertThat(p99.getId().getBaseUnit()).isEqualTo("nanoseconds");
+        } finally {
+            engine.shutdown();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jayesh.matchx.service;
+
+import com.jayesh.matchx.config.EngineProperties;
+import com.jayesh.matchx.config.InstrumentProperties;
+import com.jayesh.matchx.engine.MatchingEngine;
+import com.jayesh.matchx.engine.OrderBook;
+import com.jayesh.matchx.model.OrderSide;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OrderBookBroadcasterTest {
+
+    private final MatchingEngine engine = new MatchingEngine(new EngineProperties(), trades -> { }, 10);
+    private final OrderBookWebSocketService webSocketService = mock(OrderBookWebSocketService.class);
+    private final OrderBookBroadcaster broadcaster = new OrderBookBroadcaster(engine, webSocketService);
+    private final OrderService orderService = new OrderService(engine, instruments(), broadcaster);
+
+    @AfterEach
+    void shutdown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void restSnapshotChainsIntoTheNextDelta() throws Exception {
+        engine.submitOrder("BTC-USD", OrderSide.BUY, 100, 5).get(10, TimeUnit.SECONDS);
+        awaitView(view -> !view.bids().isEmpty());
+        broadcaster.broadcastChangedBooks();
+        engine.submitOrder("BTC-USD", OrderSide.SELL, 105, 3).get(10, TimeUnit.SECONDS);
+        awaitView(view -> !view.asks().isEmpty());
+
+        OrderBook.OrderBookSnapshot snapshot = orderService.getOrderBookSnapshot("BTC-USD", null);
+        assertThat(snapshot.sequence()).isLessThan(engine.getOrderBookSnapshot("BTC-USD").sequence());
+        assertThat(snapshot.asks()).isEmpty();
+
+        broadcaster.broadcastChangedBooks();
+        ArgumentCaptor<OrderBook.OrderBookDelta> delta = ArgumentCaptor.forClass(OrderBook.OrderBookDelta.class);
+        verify(webSocketService).broadcastOrderBookDelta(delta.capture());
+        assertThat(delta.getValue().previousSequence()).isEqualTo(snapshot.sequence());
+        assertThat(orderService.getOrderBookSnapshot("BTC-USD", null).sequence())
+            .isEqualTo(delta.getValue().sequence());
+    }
+
+    @Test
+    void servesTheEngineViewBeforeTheFirstBroadcast() throws Exception {
+        engine.submitOrder("BTC-USD", OrderSide.BUY, 100, 5).get(10, TimeUnit.SECONDS);
+        awaitView(view -> !view.bids().isEmpty());
+
+        OrderBook.OrderBookSnapshot snapshot = orderService.getOrderBookSnapshot("BTC-USD", null);
+
+        assertThat(snapshot.sequence()).isEqualTo(engine.getOrderBookSnapshot("BTC-USD").sequence());
+        assertThat(snapshot.bids()).hasSize(1);
+        verify(webSocketService, never()).broadcastOrderBookUpdate(any());
+    }
+
+    private void awaitView(Predicate<OrderBook.OrderBookSnapshot> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.test(engine.getOrderBookSnapshot("BTC-USD"))) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static InstrumentService instruments() {
+        InstrumentProperties properties = new InstrumentProperties();
+        properties.getSymbols().put("BTC-USD", new InstrumentProperties.Spec());
+        return new InstrumentService(properties);
+    }
+}
@@ -1,5 +1,7 @@
 package com.jayesh.trade.consumer;
 
+import com.jayesh.common.trade.TradeBatchEvent;
+import com.jayesh.common.trade.TradeEvent;
 import com.jayesh.trade.model.TradeEntity;
 import com.jayesh.trade.service.TradePersistenceService;
 import org.slf4j.Logger;
@@ -9,6 +11,8 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Component
@@ -22,32 +26,88 @@ public class TradeConsumer {
     }
 
     @KafkaListener(topics = "trade-events", groupId = "trade-persistence-group")
-    public void consume(Map<String, Object> message) {
+    public void consume(Object message) {
+        if (message instanceof TradeBatchEvent event) {
+            consume(event);
+        } else if (message instanceof Map<?, ?> map) {
+            consume(map);
+        } else {
+            logger.warn("Ignoring unsupported trade event {}", message);
+        }
+    }
+
+    private void consume(TradeBatchEvent event) {
+        logger.debug("Received {} binary trades for {}", event.trades().size(), event.symbol());
+
+        try {
+            List<TradeEntity> entities = new ArrayList<>(event.trades().size());
+            for (TradeEvent trade : event.trades()) {
+                entities.add(toEntity(event, trade));
+            }
+
+            persistenceService.saveTrades(entities);
+            logger.info("Trades saved: {} for {}", entities.size(), event.symbol());
+        } catch (Exception e) {
+            logger.error("Error processing trade: {}", e.getMessage(), e);
+        }
+    }
+
+    private void consume(Map<?, ?> message) {
         logger.info("Received trade event: {}", message);
 
         try {
-            TradeEntity entity = new TradeEntity();
-            entity.setSymbol((String) message.get("symbol"));
-            entity.setPrice(new BigDecimal(message.get("price").toString()));
-            entity.setQuantity(new BigDecimal(message.get("quantity").toString()));
-            entity.setBuyOrderId((String) message.get("buyOrderId"));
-            entity.setSellOrderId((String) message.get("sellOrderId"));
-            
-            Object timestamp = message.get("timestamp");
-            if (timestamp != null) {
-                if (timestamp instanceof Number) {
-                    entity.setTimestamp(Instant.ofEpochSecond(((Number) timestamp).longValue()));
-                } else {
-                    entity.setTimestamp(Instant.parse((String) timestamp));
+            List<TradeEntity> entities = new ArrayList<>();
+            Object trades = message.get("trades");
+            if (trades instanceof List<?> list) {
+                for (Object trade : list) {
+                    entities.add(toEntity((Map<?, ?>) trade));
                 }
             } else {
-                entity.setTimestamp(Instant.now());
+                entities.add(toEntity(message));
             }
 
-            persistenceService.saveTrade(entity);
-            logger.info("Trade saved: {}", entity.getSymbol());
+            persistenceService.saveTrades(entities);
+            logger.info("Trades saved: {} for {}", entities.size(), message.get("symbol"));
         } catch (Exception e) {
             logger.error("Error processing trade: {}", e.getMessage(), e);
         }
     }
+
+    private static TradeEntity toEntity(TradeBatchEvent event, TradeEvent trade) {
+        TradeEntity entity = new TradeEntity();
+        entity.setTradeId(Long.toString(trade.tradeId()));
+        entity.setSymbol(event.symbol());
+        entity.setSequence(trade.sequence());
+        entity.setPrice(event.toPrice(trade.price()));
+        entity.setQuantity(event.toQuantity(trade.quantity()));
+        entity.setBuyOrderId(Long.toString(trade.buyOrderId()));
+        entity.setSellOrderId(Long.toString(trade.sellOrderId()));
+        entity.setTimestamp(Instant.ofEpochSecond(0, trade.timestamp()));
+        return entity;
+    }
+
+    private static TradeEntity toEntity(Map<?, ?> message) {
+        TradeEntity entity = new TradeEntity();
+        Object tradeId = message.get("tradeId");
+        entity.setTradeId(tradeId != null ? tradeId.toString() : null);
+        entity.setSymbol((String) message.get("symbol"));
+        Object sequence = message.get("sequence");
+        entity.setSequence(sequence instanceof Number number ? number.longValue() : null);
+        entity.setPrice(new BigDecimal(message.get("price").toString()));
+        entity.setQuantity(new BigDecimal(message.get("quantity").toString()));
+        entity.setBuyOrderId((String) message.get("buyOrderId"));
+        entity.setSellOrderId((String) message.get("sellOrderId"));
+
+        Object timestamp = message.get("timestamp");
+        if (timestamp != null) {
+            if (timestamp instanceof Number) {
+                entity.setTimestamp(Instant.ofEpochSecond(((Number) timestamp).longValue()));
+            } else {
+                entity.setTimestamp(Instant.parse((String) timestamp));
+            }
+        } else {
+            entity.setTimestamp(Instant.now());
+        }
+        return entity;
+    }
 }
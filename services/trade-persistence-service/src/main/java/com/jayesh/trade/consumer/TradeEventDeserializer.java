@@ -0,0 +1,31 @@
+package com.jayesh.trade.consumer;
+
+import com.jayesh.common.trade.TradeBatchEventDeserializer;
+import com.jayesh.common.trade.TradeEventCodec;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * Decodes binary trade batches and falls back to JSON for records that are not binary, so the
+ * consumer can switch formats before every producer has.
+ */
+public class TradeEventDeserializer implements Deserializer<Object> {
+    private final TradeBatchEventDeserializer binary = new TradeBatchEventDeserializer();
+    private final JsonDeserializer<Map> json = new JsonDeserializer<>(Map.class, false);
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return TradeEventCodec.isBinary(data) ? binary.deserialize(topic, data) : json.deserialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        binary.close();
+        json.close();
+    }
+}
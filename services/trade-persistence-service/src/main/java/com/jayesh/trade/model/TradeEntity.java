@@ -7,7 +7,10 @@ import java.time.Instant;
 @Entity
 @Table(name = "trades", indexes = {
     @Index(name = "idx_trades_symbol", columnList = "symbol"),
-    @Index(name = "idx_trades_timestamp", columnList = "timestamp")
+    @Index(name = "idx_trades_timestamp", columnList = "timestamp"),
+    @Index(name = "idx_trades_symbol_sequence", columnList = "symbol, sequence")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_trades_trade_id", columnNames = "trade_id")
 })
 public class TradeEntity {
 
@@ -15,9 +18,14 @@ public class TradeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "trade_id")
+    private String tradeId;
+
     @Column(nullable = false)
     private String symbol;
 
+    private Long sequence;
+
     @Column(nullable = false, precision = 19, scale = 8)
     private BigDecimal price;
 
@@ -41,6 +49,14 @@ public class TradeEntity {
         this.id = id;
     }
 
+    public String getTradeId() {
+        return tradeId;
+    }
+
+    public void setTradeId(String tradeId) {
+        this.tradeId = tradeId;
+    }
+
     public String getSymbol() {
         return symbol;
     }
@@ -49,6 +65,14 @@ public class TradeEntity {
         this.symbol = symbol;
     }
 
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
     public BigDecimal getPrice() {
         return price;
     }
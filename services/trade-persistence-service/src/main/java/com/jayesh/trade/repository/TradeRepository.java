@@ -2,11 +2,17 @@ package com.jayesh.trade.repository;
 
 import com.jayesh.trade.model.TradeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TradeRepository extends JpaRepository<TradeEntity, Long> {
     List<TradeEntity> findBySymbolOrderByTimestampDesc(String symbol);
+
+    @Query("select t.tradeId from TradeEntity t where t.tradeId in :tradeIds")
+    List<String> findExistingTradeIds(@Param("tradeIds") Collection<String> tradeIds);
 }
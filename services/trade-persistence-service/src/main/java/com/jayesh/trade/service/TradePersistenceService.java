@@ -7,7 +7,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class TradePersistenceService {
@@ -26,6 +29,35 @@ public class TradePersistenceService {
         return saved;
     }
 
+    /**
+     * Saves the trades of one event, skipping any whose trade id is already stored so that a
+     * redelivered event does not create duplicates.
+     */
+    @Transactional
+    public List<TradeEntity> saveTrades(List<TradeEntity> trades) {
+        List<String> tradeIds = new ArrayList<>(trades.size());
+        for (TradeEntity trade : trades) {
+            if (trade.getTradeId() != null) {
+                tradeIds.add(trade.getTradeId());
+            }
+        }
+        Set<String> existing = tradeIds.isEmpty()
+            ? Set.of()
+            : new HashSet<>(tradeRepository.findExistingTradeIds(tradeIds));
+        List<TradeEntity> fresh = new ArrayList<>(trades.size());
+        for (TradeEntity trade : trades) {
+            if (trade.getTradeId() == null || !existing.contains(trade.getTradeId())) {
+                fresh.add(trade);
+            }
+        }
+        if (fresh.size() < trades.size()) {
+            logger.info("Skipped {} duplicate trades", trades.size() - fresh.size());
+        }
+        List<TradeEntity> saved = tradeRepository.saveAll(fresh);
+        logger.info("Saved {} trades", saved.size());
+        return saved;
+    }
+
     public List<TradeEntity> getTradesBySymbol(String symbol) {
         return tradeRepository.findBySymbolOrderByTimestampDesc(symbol);
     }
@@ -0,0 +1,47 @@
+package com.jayesh.trade.consumer;
+
+import com.jayesh.common.trade.TradeBatchEvent;
+import com.jayesh.common.trade.TradeEvent;
+import com.jayesh.common.trade.TradeEventCodec;
+import com.jayesh.common.trade.TradeSide;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TradeEventDeserializerTest {
+
+    private final TradeEventDeserializer deserializer = new TradeEventDeserializer();
+
+    @Test
+    void decodesBinaryBatches() {
+        TradeBatchEvent batch = new TradeBatchEvent("BTC-USD", 42, TradeSide.BUY, 2, 8, List.of(
+            new TradeEvent(1, 10, 6_500_012, 150_000_000, 42, 7, 1_700_000_000_000_000_001L)));
+
+        assertThat(deserializer.deserialize("trades", TradeEventCodec.encode(batch))).isEqualTo(batch);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fallsBackToJsonForLegacyRecords() {
+        byte[] json = """
+            {"tradeId":1,"symbol":"BTC-USD","price":65000.12,"quantity":1.5,"buyOrderId":42,"sellOrderId":7}
+            """.getBytes(StandardCharsets.UTF_8);
+
+        Object event = deserializer.deserialize("trades", json);
+
+        assertThat(event).isInstanceOf(Map.class);
+        assertThat((Map<Object, Object>) event)
+            .containsEntry("symbol", "BTC-USD")
+            .containsEntry("buyOrderId", 42)
+            .containsKey("price");
+    }
+
+    @Test
+    void passesThroughTombstones() {
+        assertThat(deserializer.deserialize("trades", null)).isNull();
+    }
+}